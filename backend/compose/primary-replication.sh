@@ -0,0 +1,10 @@
+#!/bin/bash
+# primary 데이터 디렉터리를 처음 만들 때만 실행된다 (docker-entrypoint-initdb.d).
+# replica 가 스트리밍 복제로 붙을 계정과 접속 허용을 추가
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<SQL
+CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator';
+SQL
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
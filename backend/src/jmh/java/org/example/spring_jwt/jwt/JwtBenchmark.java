@@ -0,0 +1,75 @@
+package org.example.spring_jwt.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// JWT 발급/검증.
+// - verifyCached: 같은 토큰이 반복되는 일반적인 경우 (검증 결과 캐시 적중)
+// - verifyUncached: 처음 보는 토큰 (서명 검증 + claim 파싱)
+// - legacyTripleParse: 예전 JWTFilter 처럼 요청마다 파서를 새로 만들어 username/role/만료를 각각 파싱
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private JWTUtil cached;
+    private JWTUtil uncached;
+    private SecretKey secretKey;
+    private String token;
+    private String otherToken;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        cached = new JWTUtil(SECRET, 10_000, new SimpleMeterRegistry());
+        // 캐시 크기 1 에 두 토큰을 번갈아 넣으면 매번 캐시에서 밀려나 항상 새로 검증한다
+        uncached = new JWTUtil(SECRET, 1, new SimpleMeterRegistry());
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        token = cached.createJwt("benchmark-user", "ROLE_USER", TimeUnit.HOURS.toMillis(1));
+        otherToken = cached.createJwt("benchmark-other", "ROLE_USER", TimeUnit.HOURS.toMillis(1));
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public String createJwt() {
+        return cached.createJwt("benchmark-user", "ROLE_USER", TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public JWTUtil.VerifiedToken verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public JWTUtil.VerifiedToken verifyUncached() {
+        return uncached.verify((sequence++ & 1) == 0 ? token : otherToken);
+    }
+
+    @Benchmark
+    public void legacyTripleParse(Blackhole blackhole) {
+        blackhole.consume(parse(token).get("username", String.class));
+        blackhole.consume(parse(token).get("role", String.class));
+        blackhole.consume(parse(token).getExpiration().before(new Date()));
+    }
+
+    private Claims parse(String jwt) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(jwt).getPayload();
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.spring_jwt.place;
+
+import org.example.spring_jwt.place.dto.ChargingDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 가짜 충전소. 남한 범위(위도 33~38.5, 경도 126~129.5)에 고르게 뿌린다. seed 가 같으면 같은 데이터
+public final class SyntheticStations {
+
+    public static final double MIN_LAT = 33.0;
+    public static final double MAX_LAT = 38.5;
+    public static final double MIN_LNG = 126.0;
+    public static final double MAX_LNG = 129.5;
+
+    private SyntheticStations() {
+    }
+
+    public static List<ChargingDTO> stations(int count, long seed) {
+        Random random = new Random(seed);
+        List<ChargingDTO> stations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ChargingDTO dto = new ChargingDTO();
+            dto.setStatId(String.format("BM%06d", i));
+            dto.setStatNm("벤치마크 충전소 " + i);
+            dto.setAddress("서울특별시 강남구 테헤란로 " + i);
+            dto.setLat(MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT));
+            dto.setLng(MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG));
+            dto.setBusiNm("환경부");
+            dto.setBusiCall("1661-9408");
+            stations.add(dto);
+        }
+        return stations;
+    }
+
+    // 조회 위치. 충전소와 같은 범위에서 뽑는다 (lat, lng 순서로 2개씩)
+    public static double[] points(int count, long seed) {
+        Random random = new Random(seed);
+        double[] points = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT);
+            points[i * 2 + 1] = MIN_LNG + random.nextDouble() * (MAX_LNG - MIN_LNG);
+        }
+        return points;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.spring_jwt.place.geo;
+
+import org.example.spring_jwt.place.SyntheticStations;
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 반경 내 충전소를 가까운 순으로 찾기: 격자 인덱스(StationSpatialIndex) vs 전체를 haversine 으로 훑기.
+// 조회 위치는 미리 뽑아 둔 1024 곳을 돌아가며 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbySearchBenchmark {
+
+    private static final int POINTS = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    public int stations;
+
+    // 앱의 주변 조회 반경은 30km
+    @Param({"5", "30"})
+    public double radiusKm;
+
+    private List<ChargingDTO> all;
+    private StationSpatialIndex index;
+    private double[] points;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        all = SyntheticStations.stations(stations, 42);
+        index = new StationSpatialIndex();
+        index.rebuild(all);
+        points = SyntheticStations.points(POINTS, 7);
+    }
+
+    @Benchmark
+    public List<ChargingDTO> spatialIndex() {
+        int i = (next++ & (POINTS - 1)) * 2;
+        return index.findWithin(points[i], points[i + 1], radiusKm);
+    }
+
+    @Benchmark
+    public List<ChargingDTO> linearHaversine() {
+        int i = (next++ & (POINTS - 1)) * 2;
+        double lat = points[i];
+        double lng = points[i + 1];
+        List<Hit> hits = new ArrayList<>();
+        for (ChargingDTO station : all) {
+            double distance = GeoUtils.distanceKm(lat, lng, station.getLat(), station.getLng());
+            if (distance <= radiusKm) {
+                hits.add(new Hit(distance, station));
+            }
+        }
+        // 인덱스와 같은 결과(가까운 순)를 만든다
+        hits.sort(Comparator.comparingDouble(Hit::distance));
+        return hits.stream().map(Hit::station).toList();
+    }
+
+    private record Hit(double distance, ChargingDTO station) {
+    }
+}
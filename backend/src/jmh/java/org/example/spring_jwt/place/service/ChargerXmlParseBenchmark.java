@@ -0,0 +1,73 @@
+package org.example.spring_jwt.place.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 충전소 API(getChargerInfo) 응답 한 페이지를 StAX 로 읽는 비용. 네트워크 없이 메모리의 XML 로 측정.
+// 9999 는 적재 시 한 페이지 행 수(charging.ingest.rows-per-page 기본값)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChargerXmlParseBenchmark {
+
+    @Param({"1000", "9999"})
+    public int rows;
+
+    private ChargerApiClient client;
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        client = new ChargerApiClient("http://localhost", "benchmark-key", new SimpleMeterRegistry(), 1, 1000);
+        page = page(rows);
+    }
+
+    @Benchmark
+    public int parsePage(Blackhole blackhole) throws IOException {
+        return client.readItems(new ByteArrayInputStream(page), blackhole::consume);
+    }
+
+    // 실제 응답과 같은 항목 구성. 충전소 하나에 충전기 2대씩
+    static byte[] page(int rows) {
+        StringBuilder xml = new StringBuilder(rows * 900);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultCode>00</resultCode>")
+                .append("<resultMsg>NORMAL SERVICE.</resultMsg></header><body><items>");
+        for (int i = 0; i < rows; i++) {
+            int station = i / 2;
+            xml.append("<item>")
+                    .append("<statNm>벤치마크 충전소 ").append(station).append("</statNm>")
+                    .append("<statId>BM").append(String.format("%06d", station)).append("</statId>")
+                    .append("<chgerId>0").append(i % 2 + 1).append("</chgerId>")
+                    .append("<chgerType>04</chgerType>")
+                    .append("<addr>서울특별시 강남구 테헤란로 ").append(station).append("</addr>")
+                    .append("<location>지하주차장 B2</location>")
+                    .append("<lat>37.").append(String.format("%06d", station)).append("</lat>")
+                    .append("<lng>127.").append(String.format("%06d", station)).append("</lng>")
+                    .append("<useTime>24시간 이용가능</useTime>")
+                    .append("<busiId>ME</busiId><bnm>환경부</bnm><busiNm>환경부</busiNm><busiCall>1661-9408</busiCall>")
+                    .append("<stat>2</stat><statUpdDt>20250520164902</statUpdDt>")
+                    .append("<lastTsdt>20250520150000</lastTsdt><lastTedt>20250520160000</lastTedt><nowTsdt></nowTsdt>")
+                    .append("<powerType>급속(100kW멀티)</powerType><output>100</output><method>단독</method>")
+                    .append("<zcode>11</zcode><zscode>11680</zscode><kind>A0</kind><kindDetail>A001</kindDetail>")
+                    .append("<parkingFree>Y</parkingFree><note></note><limitYn>N</limitYn><limitDetail></limitDetail>")
+                    .append("<delYn>N</delYn><delDetail></delDetail><trafficYn>N</trafficYn>")
+                    .append("</item>");
+        }
+        xml.append("</items><numOfRows>").append(rows).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+                .append(rows).append("</totalCount></body></response>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
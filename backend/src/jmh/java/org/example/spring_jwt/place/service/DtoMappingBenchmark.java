@@ -0,0 +1,78 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.SyntheticStations;
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.example.spring_jwt.place.dto.PlaceDTO;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+import org.example.spring_jwt.place.repository.PlaceMarkerView;
+import org.example.spring_jwt.place.repository.StationMarkerView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 조회 결과 → 응답 DTO 변환 (convertCharToDTO / convertToDTO). 조회까지 포함한 비교는 NearbyQueryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private final ChargingService chargingService = new ChargingService(null, null, null, null, null);
+    private final PlaceService placeService = new PlaceService(null, null, null, null);
+
+    private List<StationMarkerView> stationViews;
+    private List<ChargingStationEntity> stationEntities;
+    private List<PlaceMarkerView> placeViews;
+
+    @Setup
+    public void setUp() {
+        stationViews = new ArrayList<>(rows);
+        stationEntities = new ArrayList<>(rows);
+        placeViews = new ArrayList<>(rows);
+        int id = 0;
+        for (ChargingDTO station : SyntheticStations.stations(rows, 42)) {
+            stationViews.add(new StationMarkerView(station.getStatId(), station.getStatNm(), station.getAddress(),
+                    station.getLat(), station.getLng(), station.getBusiNm(), station.getBusiCall()));
+
+            ChargingStationEntity entity = new ChargingStationEntity();
+            entity.setStationId(station.getStatId());
+            entity.setName(station.getStatNm());
+            entity.setAddress(station.getAddress());
+            entity.setLatitude(station.getLat());
+            entity.setLongitude(station.getLng());
+            entity.setOperatorName(station.getBusiNm());
+            entity.setOperatorTel(station.getBusiCall());
+            stationEntities.add(entity);
+
+            placeViews.add(new PlaceMarkerView(++id, station.getStatNm(), station.getLat(), station.getLng(),
+                    "/images/" + "0".repeat(40) + "-p.jpg", "0".repeat(40) + "-t.jpg",
+                    3000, "09:00-18:00", "완속", "2", 1));
+        }
+    }
+
+    @Benchmark
+    public List<ChargingDTO> stationProjections() {
+        return stationViews.stream().map(chargingService::convertCharToDTO).toList();
+    }
+
+    @Benchmark
+    public List<ChargingDTO> stationEntities() {
+        return stationEntities.stream().map(chargingService::convertCharToDTO).toList();
+    }
+
+    @Benchmark
+    public List<PlaceDTO> placeProjections() {
+        return placeViews.stream().map(placeService::convertToDTO).toList();
+    }
+}
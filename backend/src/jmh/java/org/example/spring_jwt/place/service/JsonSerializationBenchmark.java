@@ -0,0 +1,43 @@
+package org.example.spring_jwt.place.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.spring_jwt.place.SyntheticStations;
+import org.example.spring_jwt.place.dto.LoadCharPlaceDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// /load_char_location 응답(LoadCharPlaceDTO) JSON 직렬화.
+// 100 은 화면 영역 조회, 1000~10000 은 주변 30km 조회(수도권) 정도의 크기
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int stations;
+
+    // Spring MVC 가 쓰는 것과 같은 설정
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private LoadCharPlaceDTO response;
+
+    @Setup
+    public void setUp() {
+        response = new LoadCharPlaceDTO();
+        response.setPoi(SyntheticStations.stations(stations, 42));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.spring_jwt.place.service;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.example.spring_jwt.entity.UserEntity;
+import org.example.spring_jwt.place.dto.PlaceDTO;
+import org.example.spring_jwt.place.entity.PlaceEntity;
+import org.example.spring_jwt.place.geo.GeoUtils;
+import org.example.spring_jwt.place.repository.PlaceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// findNearbyPlaces 를 H2 에 실제로 날려서 비교. 화면 중심 30km 안에 rows 개가 모두 들어가도록 뿌린다.
+// - entityQuery: 이전 방식. SELECT * 를 엔티티로 받고(영속성 컨텍스트에 올라감) EAGER user 를 사용자마다 따로 읽는다
+// - projectionQuery: 지금 방식. 필요한 컬럼만 PlaceMarkerView 생성자로 (영속성 컨텍스트, 사용자 조회 없음)
+// 둘 다 Spring Data 저장소 → DTO 변환까지 (DtoMappingBenchmark 는 변환만 따로 잰다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NearbyQueryBenchmark {
+
+    private static final double LAT = 37.5;
+    private static final double LNG = 127.0;
+    private static final double RADIUS = 30.0;
+
+    @org.openjdk.jmh.annotations.Param({"10000", "50000"})
+    public int rows;
+
+    // 장소 10개당 등록한 사용자 1명
+    @org.openjdk.jmh.annotations.Param({"10"})
+    public int placesPerUser;
+
+    private final PlaceService placeService = new PlaceService(null, null, null, null);
+
+    private ConfigurableApplicationContext context;
+    private PlaceRepository placeRepository;
+    private LegacyPlaceRepository legacyPlaceRepository;
+    private double dLat;
+    private double dLng;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.docker.compose.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "logging.level.root=WARN")
+                .run();
+        placeRepository = context.getBean(PlaceRepository.class);
+        legacyPlaceRepository = context.getBean(LegacyPlaceRepository.class);
+        insert(context.getBean(JdbcTemplate.class));
+        dLat = GeoUtils.latDelta(RADIUS);
+        dLng = GeoUtils.lngDelta(LAT, RADIUS);
+    }
+
+    // 두 엔티티가 같은 테이블을 쓰므로 Hibernate 대신 직접 만든다 (PlaceEntity 기본 컬럼 이름 그대로)
+    private void insert(JdbcTemplate jdbc) {
+        jdbc.execute("""
+                CREATE TABLE user_entity (
+                    id INT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255) UNIQUE, password VARCHAR(255),
+                    role VARCHAR(255))
+                """);
+        jdbc.execute("""
+                CREATE TABLE place_entity (
+                    id INT AUTO_INCREMENT PRIMARY KEY, place_title VARCHAR(255), latitude DOUBLE, longitude DOUBLE,
+                    place_imageurl VARCHAR(255), per_price INT, place_description VARCHAR(255),
+                    play_time VARCHAR(255), char_type VARCHAR(255), max_car VARCHAR(255), image_key VARCHAR(255),
+                    thumbnail_image_key VARCHAR(255), popup_image_key VARCHAR(255), full_image_key VARCHAR(255),
+                    userid INT REFERENCES user_entity (id))
+                """);
+        jdbc.execute("CREATE INDEX idx_place_entity_lat_lng ON place_entity (latitude, longitude)");
+
+        int users = Math.max(1, rows / placesPerUser);
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            userRows.add(new Object[]{i, "user" + i, "{bcrypt}x", "ROLE_USER"});
+        }
+        jdbc.batchUpdate("INSERT INTO user_entity (id, username, password, role) VALUES (?, ?, ?, ?)", userRows);
+
+        Random random = new Random(42);
+        List<Object[]> placeRows = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            // 중심에서 위도/경도 ±0.15도 (약 17km) 안
+            placeRows.add(new Object[]{i, "장소 " + i,
+                    LAT + (random.nextDouble() - 0.5) * 0.3, LNG + (random.nextDouble() - 0.5) * 0.3,
+                    "/images/" + "0".repeat(40) + "-p.jpg", "0".repeat(40) + "-t.jpg",
+                    3000, "09:00-18:00", "완속", "2", 1 + random.nextInt(users)});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO place_entity (id, place_title, latitude, longitude, place_imageurl, thumbnail_image_key,
+                    per_price, play_time, char_type, max_car, userid)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, placeRows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PlaceDTO> entityQuery() {
+        return legacyPlaceRepository.findNearbyPlaces(LAT, LNG, RADIUS,
+                        LAT - dLat, LAT + dLat, LNG - dLng, LNG + dLng)
+                .stream().map(NearbyQueryBenchmark::convertLegacy).toList();
+    }
+
+    @Benchmark
+    public List<PlaceDTO> projectionQuery() {
+        return placeRepository.findNearbyPlaces(LAT, LNG, RADIUS,
+                        LAT - dLat, LAT + dLat, LNG - dLng, LNG + dLng)
+                .stream().map(placeService::convertToDTO).toList();
+    }
+
+    // 이전 PlaceService.convertToDTO(PlaceEntity)
+    private static PlaceDTO convertLegacy(LegacyPlaceEntity entity) {
+        PlaceDTO dto = new PlaceDTO();
+        dto.setPlaceTitle(entity.placeTitle);
+        dto.setLatitude(entity.latitude);
+        dto.setLongitude(entity.longitude);
+        dto.setPlaceId(entity.id);
+        dto.setPlaceImageURL(entity.placeImageURL);
+        dto.setUserId(entity.user != null ? entity.user.getId() : 0);
+        dto.setChar_type(entity.char_type);
+        dto.setPlay_time(entity.play_time);
+        dto.setPer_price(entity.per_price);
+        dto.setMax_car(String.valueOf(entity.max_car));
+        return dto;
+    }
+
+    // 이전 매핑 그대로: PlaceEntity 와 같은 테이블, user 는 기본값(EAGER)
+    @Entity
+    @Table(name = "place_entity")
+    static class LegacyPlaceEntity {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        int id;
+        String placeTitle;
+        Double latitude;
+        Double longitude;
+        String placeImageURL;
+        Integer per_price;
+        String placeDescription;
+        String play_time;
+        String char_type;
+        String max_car;
+        String imageKey;
+        String thumbnailImageKey;
+        String popupImageKey;
+        String fullImageKey;
+
+        @ManyToOne
+        @JoinColumn(name = "userid")
+        UserEntity user;
+    }
+
+    // 이전 PlaceRepository.findNearbyPlaces
+    interface LegacyPlaceRepository extends Repository<LegacyPlaceEntity, Integer> {
+
+        @Query(value = """
+            SELECT *,
+            (6371 * acos(
+                cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
+                sin(radians(:lat)) * sin(radians(latitude))
+            )) AS distance
+            FROM place_entity
+            WHERE
+                latitude BETWEEN :minLat AND :maxLat
+                AND longitude BETWEEN :minLng AND :maxLng
+                AND (6371 * acos(
+                    cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
+                    sin(radians(:lat)) * sin(radians(latitude))
+                )) < :radius
+            ORDER BY distance
+            """, nativeQuery = true)
+        List<LegacyPlaceEntity> findNearbyPlaces(@Param("lat") double lat,
+                                                 @Param("lng") double lng,
+                                                 @Param("radius") double radius,
+                                                 @Param("minLat") double minLat,
+                                                 @Param("maxLat") double maxLat,
+                                                 @Param("minLng") double minLng,
+                                                 @Param("maxLng") double maxLng);
+    }
+
+    // JPA 만 띄운다 (웹, 보안, 스케줄러 없이)
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+    @EntityScan(basePackageClasses = {PlaceEntity.class, UserEntity.class, NearbyQueryBenchmark.class})
+    @EnableJpaRepositories(basePackageClasses = {PlaceRepository.class, NearbyQueryBenchmark.class},
+            considerNestedRepositories = true)
+    static class JpaConfig {
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.spring_jwt.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// 공공데이터포털 EvCharger API 의 로컬 대역. getChargerInfo / getChargerStatus 를 NationalDataset 으로 만들어 응답하고,
+// 실제 API 처럼 응답마다 latencyMillis 만큼 늦게 준다. 서버는 charging.api.base-url 을 baseUrl() 로 바꿔 붙인다
+public class FakeChargerApi implements AutoCloseable {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final NationalDataset dataset;
+    private final int latencyMillis;
+    private final HttpServer server;
+    // 외부 시스템 대역이므로 서버의 가상 스레드 carrier 를 나눠 쓰지 않게 플랫폼 스레드로 응답한다
+    // (carrier 가 적을 때 pinning 된 클라이언트와 stub 이 서로 기다리며 멈추지 않도록)
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fake-charger-api");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LongAdder requests = new LongAdder();
+
+    public FakeChargerApi(NationalDataset dataset, int latencyMillis) throws IOException {
+        this.dataset = dataset;
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/getChargerInfo", exchange -> respond(exchange, false));
+        server.createContext("/getChargerStatus", exchange -> respond(exchange, true));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    private void respond(HttpExchange exchange, boolean status) throws IOException {
+        requests.increment();
+        try (exchange) {
+            Map<String, String> params = query(exchange.getRequestURI().getRawQuery());
+            String zcode = params.getOrDefault("zcode", "11");
+            int rows = Integer.parseInt(params.getOrDefault("numOfRows", "10"));
+            int pageNo = Integer.parseInt(params.getOrDefault("pageNo", "1"));
+            // period 가 있으면 최근 변경분만: 충전기 1% 정도
+            int total = dataset.stationCount(zcode) * dataset.chargersPerStation();
+            if (status && params.containsKey("period")) {
+                total = total / 100;
+            }
+            sleep(latencyMillis);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/xml;charset=UTF-8");
+            exchange.sendResponseHeaders(200, 0);
+            Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 1 << 16);
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultCode>00</resultCode>"
+                    + "<resultMsg>NORMAL SERVICE.</resultMsg></header><body><items>");
+            int from = (pageNo - 1) * rows;
+            int to = Math.min(total, from + rows);
+            SplittableRandom random = new SplittableRandom(System.nanoTime());
+            String now = LocalDateTime.now().format(TIMESTAMP);
+            for (int i = from; i < to; i++) {
+                // 변경분 조회는 전체에서 고르게 건너뛰며 뽑는다
+                int charger = status && params.containsKey("period") ? i * 100 + random.nextInt(100) : i;
+                NationalDataset.Station station = dataset.station(zcode, charger / dataset.chargersPerStation());
+                String chgerId = String.format("%02d", charger % dataset.chargersPerStation() + 1);
+                if (status) {
+                    writeStatus(out, station, chgerId, random, now);
+                } else {
+                    writeInfo(out, station, chgerId);
+                }
+            }
+            out.write("</items><numOfRows>" + rows + "</numOfRows><pageNo>" + pageNo + "</pageNo><totalCount>"
+                    + total + "</totalCount></body></response>");
+            out.flush();
+        }
+    }
+
+    private static void writeInfo(Writer out, NationalDataset.Station station, String chgerId) throws IOException {
+        out.write("<item><statNm>" + station.name() + "</statNm><statId>" + station.statId() + "</statId>"
+                + "<chgerId>" + chgerId + "</chgerId><chgerType>04</chgerType>"
+                + "<addr>" + station.address() + "</addr><location>지하주차장</location>"
+                + "<lat>" + station.lat() + "</lat><lng>" + station.lng() + "</lng>"
+                + "<useTime>24시간 이용가능</useTime><busiId>LT</busiId><bnm>부하테스트</bnm>"
+                + "<busiNm>부하테스트</busiNm><busiCall>1600-0000</busiCall>"
+                + "<stat>2</stat><statUpdDt>20250101000000</statUpdDt><powerType>급속(100kW멀티)</powerType>"
+                + "<output>100</output><method>단독</method><zcode>" + station.zcode() + "</zcode>"
+                + "<zscode>" + station.zcode() + "000</zscode><kind>A0</kind><kindDetail>A001</kindDetail>"
+                + "<parkingFree>Y</parkingFree><limitYn>N</limitYn><delYn>N</delYn><trafficYn>N</trafficYn></item>");
+    }
+
+    private static void writeStatus(Writer out, NationalDataset.Station station, String chgerId,
+                                    SplittableRandom random, String now) throws IOException {
+        // 1 통신이상, 2 충전대기, 3 충전중 ...
+        int stat = random.nextInt(10) < 6 ? 2 : 3;
+        out.write("<item><busiId>LT</busiId><statId>" + station.statId() + "</statId><chgerId>" + chgerId
+                + "</chgerId><stat>" + stat + "</stat><statUpdDt>" + now + "</statUpdDt>"
+                + "<lastTsdt></lastTsdt><lastTedt></lastTedt><nowTsdt></nowTsdt></item>");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void sleep(int millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
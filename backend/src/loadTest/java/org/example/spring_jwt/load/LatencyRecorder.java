@@ -0,0 +1,84 @@
+package org.example.spring_jwt.load;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 엔드포인트별 응답 시간 기록. 가상 사용자마다 하나씩 두고 (경합 없음) 끝난 뒤 merge 해서 백분위를 낸다.
+// 샘플은 전부 보관해서 정렬로 정확한 백분위를 구한다 (1분에 수백만 건 정도까지는 충분)
+public class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new LinkedHashMap<>();
+
+    // status 가 0 이면 연결 실패/시간 초과
+    public void record(String endpoint, long latencyNanos, int status) {
+        Samples samples = endpoints.computeIfAbsent(endpoint, name -> new Samples());
+        samples.add(latencyNanos);
+        if (status == 429) {
+            samples.rejected++;
+        } else if (status < 200 || status >= 300) {
+            samples.errors++;
+        }
+    }
+
+    public static LatencyRecorder merge(Collection<LatencyRecorder> recorders) {
+        LatencyRecorder merged = new LatencyRecorder();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.endpoints.forEach((endpoint, samples) ->
+                    merged.endpoints.computeIfAbsent(endpoint, name -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    public Map<String, EndpointStats> stats(double seconds) {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, samples) -> stats.put(endpoint, samples.stats(seconds)));
+        return stats;
+    }
+
+    public record EndpointStats(long requests, long errors, long rejected, double throughput,
+                                double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    private static class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+        private long rejected;
+
+        void add(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+            rejected += other.rejected;
+        }
+
+        EndpointStats stats(double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(size, errors, rejected, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+
+        // nearest-rank
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.spring_jwt.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// 부하 테스트 설정. ./gradlew loadTest -Pload.<이름>=값 으로 바꾼다 (gradle 이 시스템 프로퍼티로 넘김).
+// load.app.<스프링 프로퍼티>=값 은 띄우는 서버에 그대로 전달 (예: -Pload.app.login.pool-size=8)
+public record LoadTestConfig(int stations,
+                             int chargersPerStation,
+                             int places,
+                             int users,
+                             int concurrency,
+                             List<Integer> ramp,
+                             int sloP99Millis,
+                             boolean combined,
+                             int warmupSeconds,
+                             int durationSeconds,
+                             double authRatio,
+                             double addRatio,
+                             int thinkMillis,
+                             int apiLatencyMillis,
+                             long statusIntervalMillis,
+                             long seed,
+                             String report,
+                             Map<String, String> appProperties) {
+
+    private static final String PREFIX = "load.";
+    private static final String APP_PREFIX = "load.app.";
+
+    public static LoadTestConfig from(Properties properties) {
+        Map<String, String> appProperties = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(APP_PREFIX)) {
+                appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+        return new LoadTestConfig(
+                intValue(properties, "stations", 300_000),
+                intValue(properties, "chargers-per-station", 2),
+                intValue(properties, "places", 50_000),
+                intValue(properties, "users", 2_000),
+                intValue(properties, "concurrency", 64),
+                ramp(properties),
+                intValue(properties, "slo-p99-ms", 1_000),
+                Boolean.parseBoolean(properties.getProperty(PREFIX + "combined", "false")),
+                intValue(properties, "warmup-s", 15),
+                intValue(properties, "duration-s", 60),
+                doubleValue(properties, "auth-ratio", 0.3),
+                doubleValue(properties, "add-ratio", 0.01),
+                intValue(properties, "think-ms", 0),
+                intValue(properties, "api-latency-ms", 300),
+                intValue(properties, "status-interval-ms", 60_000),
+                intValue(properties, "seed", 42),
+                properties.getProperty(PREFIX + "report", "report.json"),
+                appProperties);
+    }
+
+    // load.ramp=16,32,64,128 이면 동시 사용자를 단계별로 늘려가며 측정. 없으면 load.concurrency 한 단계
+    private static List<Integer> ramp(Properties properties) {
+        String value = properties.getProperty(PREFIX + "ramp");
+        if (value == null || value.isBlank()) {
+            return List.of(intValue(properties, "concurrency", 64));
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).map(Integer::parseInt).toList();
+    }
+
+    private static int intValue(Properties properties, String name, int defaultValue) {
+        String value = properties.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleValue(Properties properties, String name, double defaultValue) {
+        String value = properties.getProperty(PREFIX + name);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.spring_jwt.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.spring_jwt.SpringJwtApplication;
+import org.example.spring_jwt.place.dto.SyncStatusDTO;
+import org.example.spring_jwt.place.service.ClusterService;
+import org.example.spring_jwt.place.service.StationSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 부하 테스트 하네스. 작업 디렉터리(build/load-test)에
+// 1. 공공데이터 API stub 을 띄우고 2. 서버를 H2 파일 DB 로 띄운 뒤 3. 실제 적재 경로(StationSyncService)로 전국 충전소를,
+// DB 에 바로 사용자/장소를 넣고 4. 가상 사용자들로 warmup 후 정해진 시간 동안 트래픽을 보내 엔드포인트별 결과를 출력/저장한다.
+// load.ramp 를 주면 동시 사용자를 단계별로 늘려가며 4 를 반복하고, 지도 조회의 p99 가 load.slo-p99-ms 이하이고
+// 오류+429 가 1% 미만인 마지막 단계를 "버틴 동시 사용자" 로 보고한다.
+// 서버와 부하 발생기가 같은 JVM 이라 절대값보다는 변경 전후 비교용
+public class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+    static final String PASSWORD = "load-test-password";
+    private static final List<String> MAP_ENDPOINTS = List.of("/load_location", "/load_char_location", "/load_all_location");
+    private static final double MAX_FAILURE_RATIO = 0.01;
+
+    record Step(int concurrency, boolean withinSlo, Map<String, LatencyRecorder.EndpointStats> endpoints) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(System.getProperties());
+        FileSystemUtils.deleteRecursively(Path.of("db"));
+        FileSystemUtils.deleteRecursively(Path.of("data"));
+
+        NationalDataset dataset = new NationalDataset(config.stations(), config.chargersPerStation(), config.seed());
+        try (FakeChargerApi api = new FakeChargerApi(dataset, config.apiLatencyMillis());
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringJwtApplication.class)
+                     .run(serverArguments(config, dataset, api))) {
+
+            Map<String, Object> seeding = seed(context, config, dataset);
+            List<String> usernames = context.getBean(JdbcTemplate.class).queryForList(
+                    "SELECT username FROM user_entity WHERE username LIKE 'load-user-%'", String.class);
+            String baseUrl = "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            List<Step> steps = new ArrayList<>();
+            for (int concurrency : config.ramp()) {
+                Map<String, LatencyRecorder.EndpointStats> endpoints =
+                        drive(config, concurrency, dataset, baseUrl, usernames);
+                Step step = new Step(concurrency, withinSlo(config, endpoints), endpoints);
+                print(config, step);
+                steps.add(step);
+            }
+            long apiRequests = api.getRequestCount();
+            int maxWithinSlo = steps.stream().filter(Step::withinSlo).mapToInt(Step::concurrency).max().orElse(0);
+            log.info("p99 {}ms 이하, 실패 1% 미만으로 버틴 동시 사용자: {}명", config.sloP99Millis(), maxWithinSlo);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("config", config);
+            report.put("seeding", seeding);
+            report.put("chargerApiRequests", apiRequests);
+            report.put("maxConcurrencyWithinSlo", maxWithinSlo);
+            report.put("steps", steps);
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(Path.of(config.report()).toFile(), report);
+            log.info("결과 저장: {}", Path.of(config.report()).toAbsolutePath());
+        }
+        // 서버 쪽 비데몬 스레드가 남아 있어도 끝낸다
+        System.exit(0);
+    }
+
+    // 명령행 인자로 넘겨서 로컬 application.properties 보다 우선하게 한다
+    private static String[] serverArguments(LoadTestConfig config, NationalDataset dataset, FakeChargerApi api) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:file:./db/load");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jwt.secret", UUID.randomUUID() + "-" + UUID.randomUUID());
+        properties.put("charging.api.base-url", api.baseUrl());
+        properties.put("charging.api.service-key", "load-test");
+        properties.put("charging.ingest.zcodes", String.join(",", dataset.zcodes()));
+        // 적재는 seed() 에서 직접 돌리고, 상태 폴링은 부하 중에 실제처럼 주기적으로
+        properties.put("charging.sync.enabled", "false");
+        properties.put("charging.status.initial-delay-ms", String.valueOf(config.statusIntervalMillis()));
+        properties.put("charging.status.interval-ms", String.valueOf(config.statusIntervalMillis()));
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.example.spring_jwt.load", "INFO");
+        properties.putAll(config.appProperties());
+        return properties.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static Map<String, Object> seed(ConfigurableApplicationContext context, LoadTestConfig config,
+                                            NationalDataset dataset) {
+        Map<String, Object> seeding = new LinkedHashMap<>();
+        log.info("충전소 적재 시작: {}개 x 충전기 {}대 ({}개 시도)", config.stations(), config.chargersPerStation(),
+                dataset.zcodes().size());
+        StationSyncService syncService = context.getBean(StationSyncService.class);
+        long start = System.nanoTime();
+        syncService.sync();
+        SyncStatusDTO status = syncService.getStatus();
+        if (!status.isLastSucceeded()) {
+            throw new IllegalStateException("station ingestion failed: " + status.getLastError());
+        }
+        seeding.put("stationIngestMs", Duration.ofNanos(System.nanoTime() - start).toMillis());
+        seeding.put("stationsInserted", status.getInserted());
+        log.info("충전소 적재 완료: {}개, {}ms", status.getInserted(), seeding.get("stationIngestMs"));
+
+        start = System.nanoTime();
+        String passwordHash = context.getBean(BCryptPasswordEncoder.class).encode(PASSWORD);
+        dataset.seedUsersAndPlaces(context.getBean(JdbcTemplate.class), config.users(), config.places(), passwordHash);
+        context.getBean(ClusterService.class).rebuild();
+        seeding.put("placeSeedMs", Duration.ofNanos(System.nanoTime() - start).toMillis());
+        log.info("사용자 {}명, 장소 {}개 생성: {}ms", config.users(), config.places(), seeding.get("placeSeedMs"));
+        return seeding;
+    }
+
+    private static Map<String, LatencyRecorder.EndpointStats> drive(LoadTestConfig config, int concurrency,
+                                                                   NationalDataset dataset, String baseUrl,
+                                                                   List<String> usernames)
+            throws InterruptedException, IOException {
+        List<byte[]> images = images(config.seed());
+        List<VirtualUser> users = new ArrayList<>();
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .executor(clientExecutor)
+                     .build()) {
+            Flags flags = new Flags();
+            for (int i = 0; i < concurrency; i++) {
+                users.add(new VirtualUser(client, baseUrl, dataset, usernames, images, config,
+                        () -> flags.measuring, () -> flags.stopped, config.seed() + i));
+            }
+            log.info("가상 사용자 {}명, warmup {}s, 측정 {}s", concurrency, config.warmupSeconds(),
+                    config.durationSeconds());
+            try (ExecutorService userExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                users.forEach(userExecutor::submit);
+                Thread.sleep(Duration.ofSeconds(config.warmupSeconds()));
+                flags.measuring = true;
+                Thread.sleep(Duration.ofSeconds(config.durationSeconds()));
+                flags.measuring = false;
+                flags.stopped = true;
+            }
+        }
+        return LatencyRecorder.merge(users.stream().map(VirtualUser::getRecorder).toList())
+                .stats(config.durationSeconds());
+    }
+
+    private static boolean withinSlo(LoadTestConfig config, Map<String, LatencyRecorder.EndpointStats> endpoints) {
+        return MAP_ENDPOINTS.stream().filter(endpoints::containsKey).map(endpoints::get).allMatch(stats ->
+                stats.p99Ms() <= config.sloP99Millis()
+                        && stats.errors() + stats.rejected() < stats.requests() * MAX_FAILURE_RATIO);
+    }
+
+    private static class Flags {
+        volatile boolean measuring;
+        volatile boolean stopped;
+    }
+
+    // 업로드용 사진. 내용이 달라야 매번 새 파일/축소본 생성 경로를 탄다
+    private static List<byte[]> images(long seed) throws IOException {
+        Random random = new Random(seed);
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            BufferedImage image = new BufferedImage(1024, 768, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+            for (int j = 0; j < 40; j++) {
+                graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+                graphics.fillRect(random.nextInt(1024), random.nextInt(768), 50 + random.nextInt(300), 50 + random.nextInt(300));
+            }
+            graphics.dispose();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "jpg", out);
+            images.add(out.toByteArray());
+        }
+        return images;
+    }
+
+    private static void print(LoadTestConfig config, Step step) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n동시 사용자 %d명, 측정 %ds, SLO %s%n", step.concurrency(), config.durationSeconds(),
+                step.withinSlo() ? "충족" : "초과"));
+        table.append(String.format("%-22s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+                "429", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        step.endpoints().forEach((endpoint, stats) -> table.append(String.format(
+                "%-22s %9d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", endpoint, stats.requests(), stats.errors(),
+                stats.rejected(), stats.throughput(), stats.p50Ms(), stats.p90Ms(), stats.p99Ms(), stats.p999Ms(),
+                stats.maxMs())));
+        log.info("{}", table);
+    }
+}
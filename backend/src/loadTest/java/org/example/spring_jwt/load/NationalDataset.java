@@ -0,0 +1,142 @@
+package org.example.spring_jwt.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+// 전국 규모 합성 데이터. 시도(zcode)별 충전소 비중과 분포 반경을 실제와 비슷하게 두고,
+// 같은 seed 면 항상 같은 충전소가 나오도록 (zcode, 번호) 로 좌표를 만든다 (stub API 가 페이지마다 다시 계산)
+public class NationalDataset {
+
+    // 공공데이터 API 의 zcode, 중심 좌표, 분포 반경(km), 전국 대비 충전소 비중
+    record Region(String zcode, String name, double lat, double lng, double spreadKm, double share) {
+    }
+
+    record Station(String statId, String name, String address, double lat, double lng, String zcode) {
+    }
+
+    static final List<Region> REGIONS = List.of(
+            new Region("11", "서울특별시", 37.5665, 126.9780, 8, 0.15),
+            new Region("26", "부산광역시", 35.1796, 129.0756, 8, 0.05),
+            new Region("27", "대구광역시", 35.8714, 128.6014, 8, 0.04),
+            new Region("28", "인천광역시", 37.4563, 126.7052, 10, 0.06),
+            new Region("29", "광주광역시", 35.1595, 126.8526, 6, 0.025),
+            new Region("30", "대전광역시", 36.3504, 127.3845, 6, 0.025),
+            new Region("31", "울산광역시", 35.5384, 129.3114, 8, 0.02),
+            new Region("36", "세종특별자치시", 36.4800, 127.2890, 5, 0.01),
+            new Region("41", "경기도", 37.4138, 127.5183, 30, 0.25),
+            new Region("42", "강원도", 37.8228, 128.1555, 40, 0.04),
+            new Region("43", "충청북도", 36.6357, 127.4917, 25, 0.04),
+            new Region("44", "충청남도", 36.5184, 126.8000, 30, 0.05),
+            new Region("45", "전라북도", 35.7175, 127.1530, 25, 0.04),
+            new Region("46", "전라남도", 34.8679, 126.9910, 30, 0.04),
+            new Region("47", "경상북도", 36.4919, 128.8889, 40, 0.06),
+            new Region("48", "경상남도", 35.4606, 128.2132, 30, 0.07),
+            new Region("50", "제주특별자치도", 33.4996, 126.5312, 15, 0.03));
+
+    private static final double KM_PER_DEGREE = 111.0;
+
+    private final int stations;
+    private final int chargersPerStation;
+    private final long seed;
+
+    public NationalDataset(int stations, int chargersPerStation, long seed) {
+        this.stations = stations;
+        this.chargersPerStation = chargersPerStation;
+        this.seed = seed;
+    }
+
+    public List<String> zcodes() {
+        return REGIONS.stream().map(Region::zcode).toList();
+    }
+
+    public int chargersPerStation() {
+        return chargersPerStation;
+    }
+
+    public int stationCount(String zcode) {
+        Region region = region(zcode);
+        return region == null ? 0 : (int) Math.round(stations * region.share());
+    }
+
+    public Station station(String zcode, int index) {
+        Region region = region(zcode);
+        SplittableRandom random = new SplittableRandom(seed * 31 + Long.parseLong(zcode) * 10_000_000L + index);
+        double[] point = around(region, random.nextDouble(), random.nextDouble(), random.nextDouble());
+        String statId = String.format("LT%s%06d", zcode, index);
+        return new Station(statId, region.name() + " 충전소 " + index,
+                region.name() + " 합성로 " + (index % 500 + 1), point[0], point[1], zcode);
+    }
+
+    // 트래픽 시작 위치: 충전소와 같은 분포 (사람이 많은 곳에서 지도를 많이 본다)
+    public double[] randomPoint(Random random) {
+        return around(pickRegion(random.nextDouble()), random.nextDouble(), random.nextDouble(), random.nextDouble());
+    }
+
+    private Region pickRegion(double u) {
+        double cumulative = 0;
+        for (Region region : REGIONS) {
+            cumulative += region.share();
+            if (u < cumulative) {
+                return region;
+            }
+        }
+        return REGIONS.get(REGIONS.size() - 1);
+    }
+
+    // Box-Muller 로 중심 주변 정규분포
+    private static double[] around(Region region, double u1, double u2, double u3) {
+        double radius = Math.sqrt(-2 * Math.log(1 - u1)) * region.spreadKm() / 2;
+        double angle = 2 * Math.PI * u2;
+        double lat = region.lat() + radius * Math.sin(angle) / KM_PER_DEGREE;
+        double lng = region.lng() + radius * Math.cos(angle) / (KM_PER_DEGREE * Math.cos(Math.toRadians(region.lat())));
+        // 같은 건물 안 충전소처럼 소수점 아래를 조금 흔든다
+        lat += (u3 - 0.5) * 1e-4;
+        return new double[]{clamp(lat, 33.0, 38.7), clamp(lng, 124.5, 131.0)};
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static Region region(String zcode) {
+        for (Region region : REGIONS) {
+            if (region.zcode().equals(zcode)) {
+                return region;
+            }
+        }
+        return null;
+    }
+
+    // 사용자와 사용자 등록 장소는 API 가 없으므로 DB 에 바로 넣는다. 사용자 이름은 load-user-<번호>
+    public void seedUsersAndPlaces(JdbcTemplate jdbcTemplate, int users, int places, String passwordHash) {
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            userRows.add(new Object[]{"load-user-" + i, passwordHash, "ROLE_USER"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_entity (username, password, role) VALUES (?, ?, ?)", userRows);
+        List<Integer> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM user_entity WHERE username LIKE 'load-user-%'", Integer.class);
+
+        Random random = new Random(seed);
+        List<Object[]> placeRows = new ArrayList<>(Math.min(places, 5_000));
+        for (int i = 0; i < places; i++) {
+            double[] point = randomPoint(random);
+            placeRows.add(new Object[]{"공유 충전기 " + i, point[0], point[1], "/images/sample-" + (i % 100) + ".jpg",
+                    1000 + random.nextInt(40) * 100, "합성 데이터", "09:00-22:00",
+                    random.nextBoolean() ? "완속" : "급속", String.valueOf(1 + random.nextInt(4)),
+                    userIds.get(random.nextInt(userIds.size()))});
+            if (placeRows.size() == 5_000 || i == places - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO place_entity (place_title, latitude, longitude, place_imageurl, per_price,
+                            place_description, play_time, char_type, max_car, userid)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """, placeRows);
+                placeRows.clear();
+            }
+        }
+    }
+}
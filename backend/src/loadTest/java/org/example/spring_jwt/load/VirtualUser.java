@@ -0,0 +1,188 @@
+package org.example.spring_jwt.load;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+// 지도 앱 사용자 한 명. 세션마다 (일부는 로그인해서) 한 지역에 들어가 지도를 5~20번 옮기고,
+// 옮길 때마다 프론트엔드(Map.tsx)처럼 /load_location 과 /load_char_location 을 동시에 부른다
+// (load.combined=true 면 둘을 서버에서 합쳐 주는 /load_all_location 한 번).
+// 로그인한 사용자는 가끔 사진과 함께 장소를 등록한다
+public class VirtualUser implements Runnable {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String PASSWORD = LoadTestMain.PASSWORD;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final NationalDataset dataset;
+    private final List<String> usernames;
+    private final List<byte[]> images;
+    private final LoadTestConfig config;
+    private final BooleanSupplier measuring;
+    private final BooleanSupplier stopped;
+    private final Random random;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public VirtualUser(HttpClient client, String baseUrl, NationalDataset dataset, List<String> usernames,
+                       List<byte[]> images, LoadTestConfig config, BooleanSupplier measuring, BooleanSupplier stopped,
+                       long seed) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.usernames = usernames;
+        this.images = images;
+        this.config = config;
+        this.measuring = measuring;
+        this.stopped = stopped;
+        this.random = new Random(seed);
+    }
+
+    public LatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    @Override
+    public void run() {
+        while (!stopped.getAsBoolean()) {
+            session();
+        }
+    }
+
+    private void session() {
+        String token = null;
+        if (random.nextDouble() < config.authRatio()) {
+            token = login(usernames.get(random.nextInt(usernames.size())));
+        }
+        double[] point = dataset.randomPoint(random);
+        int pans = 5 + random.nextInt(16);
+        for (int i = 0; i < pans && !stopped.getAsBoolean(); i++) {
+            pan(point);
+            loadMap(point, token);
+            if (token != null && random.nextDouble() < config.addRatio()) {
+                addPlace(point, token);
+            }
+            think();
+        }
+    }
+
+    // 0.3~3km 정도 끌어서 이동
+    private void pan(double[] point) {
+        double km = 0.3 + random.nextDouble() * 2.7;
+        double angle = random.nextDouble() * 2 * Math.PI;
+        point[0] += km * Math.sin(angle) / 111.0;
+        point[1] += km * Math.cos(angle) / (111.0 * Math.cos(Math.toRadians(point[0])));
+    }
+
+    private String login(String username) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+        HttpResponse<Void> response = send("/login", request);
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        return response.headers().firstValue("Authorization").orElse(null);
+    }
+
+    private void loadMap(double[] point, String token) {
+        String query = String.format("?lat=%.6f&lng=%.6f", point[0], point[1]);
+        if (config.combined()) {
+            send("/load_all_location", get("/load_all_location" + query, token));
+            return;
+        }
+        long start = System.nanoTime();
+        CompletableFuture<long[]> places = sendAsync(get("/load_location" + query, token), start);
+        CompletableFuture<long[]> stations = sendAsync(get("/load_char_location" + query, token), start);
+        record("/load_location", places.join());
+        record("/load_char_location", stations.join());
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET();
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder.build();
+    }
+
+    private void addPlace(double[] point, String token) {
+        String boundary = "----load" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        field(body, boundary, "placeTitle", "부하테스트 장소");
+        field(body, boundary, "lat", String.valueOf(point[0]));
+        field(body, boundary, "lng", String.valueOf(point[1]));
+        field(body, boundary, "per_price", "2000");
+        field(body, boundary, "placeDescription", "load test");
+        field(body, boundary, "char_type", "완속");
+        field(body, boundary, "play_time", "09:00-18:00");
+        field(body, boundary, "max_car", "2");
+        body.writeBytes(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"placeImageURL\"; filename=\"photo.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(images.get(random.nextInt(images.size())));
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/place/add"))
+                .timeout(TIMEOUT)
+                .header("Authorization", token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        send("/api/place/add", request);
+    }
+
+    private static void field(ByteArrayOutputStream body, String boundary, String name, String value) {
+        body.writeBytes(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<Void> send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 연결 실패/시간 초과는 status 0 으로 기록
+        }
+        record(endpoint, new long[]{System.nanoTime() - start, response == null ? 0 : response.statusCode()});
+        return response;
+    }
+
+    // 응답 본문까지 다 받은 시점을 잰다. 결과는 {지연 ns, status}
+    private CompletableFuture<long[]> sendAsync(HttpRequest request, long start) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> new long[]{System.nanoTime() - start,
+                        response == null ? 0 : response.statusCode()});
+    }
+
+    private void record(String endpoint, long[] result) {
+        if (measuring.getAsBoolean()) {
+            recorder.record(endpoint, result[0], (int) result[1]);
+        }
+    }
+
+    private void think() {
+        if (config.thinkMillis() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(random.nextInt(config.thinkMillis() * 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
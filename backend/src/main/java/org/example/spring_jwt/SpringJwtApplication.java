@@ -3,11 +3,17 @@ package org.example.spring_jwt;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class SpringJwtApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SpringJwtApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringJwtApplication.class);
+        // application.properties 는 저장소에 없으므로 기본값만 여기서 둔다 (properties 로 덮어쓸 수 있음)
+        application.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,prometheus"));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,63 @@
+package org.example.spring_jwt.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// DB 를 쓰는 요청을 동시에 permits 개까지만 처리한다 (가상 스레드 모드, VirtualThreadConfig 에서 등록).
+// 플랫폼 스레드일 때는 Tomcat 스레드 수가 DB 커넥션을 기다리는 요청 수를 막아줬지만, 가상 스레드는 요청마다 생기므로
+// 그대로 두면 몰린 요청이 전부 커넥션 풀에서 connection-timeout 까지 기다리다 500 이 된다.
+// 여기서 waitMillis 만큼만 차례를 기다리고, 그래도 자리가 없으면 트랜잭션을 열기 전에 바로 429
+public class DbConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long waitMillis;
+    private final LongAdder rejected = new LongAdder();
+
+    public DbConcurrencyLimitFilter(int maxConcurrent, long waitMillis) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
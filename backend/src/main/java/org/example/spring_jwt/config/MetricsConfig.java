@@ -0,0 +1,106 @@
+package org.example.spring_jwt.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.spring_jwt.jwt.LoginExecutor;
+import org.example.spring_jwt.place.image.ImageVariantService;
+import org.example.spring_jwt.place.service.ChargerStatusStreamService;
+import org.example.spring_jwt.place.service.ChargingService;
+import org.example.spring_jwt.place.service.PlaceService;
+import org.example.spring_jwt.place.upload.StreamingUploadReader;
+import org.example.spring_jwt.service.UserCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// /actuator/prometheus 로 내보내는 지표 중 자동으로 잡히지 않는 것들.
+// (요청별 지연 http.server.requests, 커넥션 풀 hikaricp.*, JVM 지표는 Spring Boot 가 등록)
+@Configuration
+public class MetricsConfig {
+
+    // 엔드포인트별 지연 분포를 Prometheus 에서 histogram_quantile 로 볼 수 있도록 bucket 도 내보낸다
+    @Bean
+    public MeterFilter httpServerRequestsHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("http.server.requests")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder loginMetrics(LoginExecutor loginExecutor) {
+        return registry -> {
+            Gauge.builder("login.active", loginExecutor, executor -> executor.getStats().getActiveCount())
+                    .register(registry);
+            Gauge.builder("login.queue.depth", loginExecutor, executor -> executor.getStats().getQueueDepth())
+                    .register(registry);
+            FunctionCounter.builder("login.rejected", loginExecutor, executor -> executor.getStats().getRejectedCount())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(UserCache userCache, PlaceService placeService, ChargingService chargingService) {
+        return registry -> {
+            Gauge.builder("user.cache.size", userCache, UserCache::size).register(registry);
+            Gauge.builder("nearby.cache.size", placeService, service -> service.getNearbyCacheStats().getSize())
+                    .tag("target", "place")
+                    .register(registry);
+            Gauge.builder("nearby.cache.size", chargingService, service -> service.getNearbyCacheStats().getSize())
+                    .tag("target", "station")
+                    .register(registry);
+            FunctionCounter.builder("nearby.cache.requests", placeService, service -> service.getNearbyCacheStats().getHits())
+                    .tag("target", "place")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("nearby.cache.requests", placeService, service -> service.getNearbyCacheStats().getMisses())
+                    .tag("target", "place")
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("nearby.cache.requests", chargingService, service -> service.getNearbyCacheStats().getHits())
+                    .tag("target", "station")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("nearby.cache.requests", chargingService, service -> service.getNearbyCacheStats().getMisses())
+                    .tag("target", "station")
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder backlogMetrics(StreamingUploadReader uploadReader, ImageVariantService imageVariantService,
+                                      ChargerStatusStreamService streamService,
+                                      ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                      ObjectProvider<DbConcurrencyLimitFilter> dbLimit) {
+        return registry -> {
+            Gauge.builder("upload.in_flight", uploadReader, StreamingUploadReader::getInFlight).register(registry);
+            Gauge.builder("image.variant.queue", imageVariantService, ImageVariantService::getQueueDepth)
+                    .register(registry);
+            Gauge.builder("charging.status.subscribers", streamService, ChargerStatusStreamService::getSubscriberCount)
+                    .register(registry);
+            // 읽기/쓰기 분리를 켠 경우만. 확인 실패 시 -1
+            replicaLagMonitor.ifAvailable(monitor -> Gauge.builder("replica.lag", monitor, ReplicaLagMonitor::getLagMillis)
+                    .baseUnit("milliseconds")
+                    .register(registry));
+            // 가상 스레드 모드일 때만
+            dbLimit.ifAvailable(filter -> {
+                Gauge.builder("db.limit.in_flight", filter, DbConcurrencyLimitFilter::getInFlight).register(registry);
+                FunctionCounter.builder("db.limit.rejected", filter, DbConcurrencyLimitFilter::getRejectedCount)
+                        .register(registry);
+            });
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.spring_jwt.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+import java.util.Set;
+
+@Configuration
+public class MultipartConfig {
+
+    // 직접 스트리밍으로 읽는 경로 (StreamingUploadReader). 여기서 multipart 로 처리하면
+    // 서블릿 컨테이너가 요청 전체를 먼저 받아두므로 제외한다
+    static final Set<String> STREAMING_PATHS = Set.of("/api/place/add");
+
+    @Bean
+    public MultipartResolver multipartResolver() {
+        return new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                String path = request.getRequestURI().substring(request.getContextPath().length());
+                return !STREAMING_PATHS.contains(path) && super.isMultipart(request);
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.spring_jwt.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드)은 replica 로, 나머지는 primary 로.
+// 트랜잭션의 readOnly 표시는 커넥션을 받은 뒤에 설정되므로 LazyConnectionDataSourceProxy 로 감싸서
+// 첫 쿼리 시점에 경로를 정하게 해야 한다 (DataSourceRoutingConfig)
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final BooleanSupplier replicaUsable;
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder fallbackRoutes = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaUsable) {
+        this.replicaUsable = replicaUsable;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        // replica 가 허용치보다 뒤처졌거나 응답하지 않으면 읽기도 primary 로
+        if (!replicaUsable.getAsBoolean()) {
+            fallbackRoutes.increment();
+            return Route.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Route.REPLICA;
+    }
+
+    public long getReplicaRoutes() {
+        return replicaRoutes.sum();
+    }
+
+    public long getFallbackRoutes() {
+        return fallbackRoutes.sum();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.spring_jwt.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+// replica 의 복제 지연을 주기적으로 재서 허용치(maxLagMillis) 안일 때만 읽기를 보낸다.
+// 조회가 실패하면(replica 다운 등) 다음 확인까지 primary 로 보낸다
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // PostgreSQL 스트리밍 복제 기준. 받은 WAL 을 다 반영했으면 0 (primary 에 쓰기가 없을 때 지연이 계속 커지는 것 방지)
+    static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    // 첫 확인 전에는 primary 로
+    private volatile boolean usable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMillis) {
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-ms:5000}")
+    public void check() {
+        try {
+            Number lag = replica.queryForObject(lagQuery, Number.class);
+            lagMillis = lag == null ? 0 : lag.longValue();
+            usable = lagMillis <= maxLagMillis;
+        } catch (RuntimeException e) {
+            if (usable) {
+                log.warn("replica 지연 확인 실패, 읽기를 primary 로: {}", e.getMessage());
+            }
+            lagMillis = -1;
+            usable = false;
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    // 마지막으로 잰 지연 (ms). 확인 실패 시 -1
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
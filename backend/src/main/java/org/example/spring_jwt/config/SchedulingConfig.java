@@ -0,0 +1,23 @@
+package org.example.spring_jwt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 오래 걸리는 충전소 동기화가 다른 주기 작업을 막지 않도록 스레드를 여러개 둔다.
+    // 가상 스레드 모드(spring.threads.virtual.enabled)에서는 공공데이터 API 를 기다리는 주기 작업도 가상 스레드에서 돈다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setVirtualThreads(virtualThreads);
+        return scheduler;
+    }
+}
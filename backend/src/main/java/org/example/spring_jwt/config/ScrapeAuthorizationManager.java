@@ -0,0 +1,58 @@
+package org.example.spring_jwt.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+// /actuator/prometheus 접근: ADMIN 토큰, 또는 설정한 수집용 계정의 Basic 인증 (Prometheus scrape_config 의 basic_auth).
+// Bearer 는 JWTFilter 가 JWT 로 검증하므로 수집용 자격 증명은 Basic 으로 받는다. 비밀번호가 비어 있으면 ADMIN 만 허용
+public class ScrapeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final byte[] expected;
+
+    public ScrapeAuthorizationManager(String username, String password) {
+        this.expected = password == null || password.isEmpty() ? null
+                : ("Basic " + Base64.getEncoder().encodeToString(
+                        (username + ":" + password).getBytes(StandardCharsets.UTF_8))).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isAdmin(authentication.get()) || hasScrapeCredential(context.getRequest()));
+    }
+
+    // 6.4 에서는 아직 추상 메서드라 남겨 둔다. 시큐리티는 authorize 만 부른다
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return (AuthorizationDecision) authorize(authentication, context);
+    }
+
+    private boolean hasScrapeCredential(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        // 길이로 새지 않도록 상수 시간 비교
+        return expected != null && authorization != null
+                && MessageDigest.isEqual(expected, authorization.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,10 +1,14 @@
 package org.example.spring_jwt.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.tomcat.util.net.openssl.ciphers.Authentication;
 import org.example.spring_jwt.jwt.JWTFilter;
 import org.example.spring_jwt.jwt.JWTUtil;
+import org.example.spring_jwt.jwt.LoginExecutor;
 import org.example.spring_jwt.jwt.LoginFilter;
+import org.example.spring_jwt.service.UserCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,11 +32,22 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
+    private final LoginExecutor loginExecutor;
+    private final ObjectMapper objectMapper;
+    private final UserCache userCache;
+    private final ScrapeAuthorizationManager scrapeAuthorization;
 
 
-    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration,  JWTUtil jwtUtil) {
+    public SecurityConfig(AuthenticationConfiguration authenticationConfiguration,  JWTUtil jwtUtil,
+                          LoginExecutor loginExecutor, ObjectMapper objectMapper, UserCache userCache,
+                          @Value("${metrics.scrape.username:prometheus}") String scrapeUsername,
+                          @Value("${metrics.scrape.password:}") String scrapePassword) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
+        this.loginExecutor = loginExecutor;
+        this.objectMapper = objectMapper;
+        this.userCache = userCache;
+        this.scrapeAuthorization = new ScrapeAuthorizationManager(scrapeUsername, scrapePassword);
     }
 
     @Bean
@@ -81,15 +96,22 @@ public class SecurityConfig {
         //경로별 인가 작업
         http
                 .authorizeHttpRequests((auth) -> auth
-                        .requestMatchers("/login", "/", "/join", "/load_location", "/load_char_location").permitAll()
+                        .requestMatchers("/login", "/", "/join", "/load_location", "/load_char_location",
+                                "/load_location_bounds", "/load_char_location_bounds", "/load_clusters",
+                                "/load_all_location", "/load_nearest", "/load_char_nearest", "/char_status",
+                                "/char_status/stream", "/char_occupancy", "/load_char_busy_hours",
+                                "/images/**", "/actuator/health").permitAll()
 //                       .requestMatchers("/login", "/", "/join", "/load_location","/api/place/add").permitAll()
-                        .requestMatchers("/admin").hasRole("ADMIN")
+                        .requestMatchers("/admin", "/admin/**").hasRole("ADMIN")
+                        // 지표는 공개 포트로도 나가므로 ADMIN 또는 수집용 계정만
+                        .requestMatchers("/actuator/prometheus").access(scrapeAuthorization)
                         .anyRequest().authenticated());
 
         http
-                .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class);
+                .addFilterBefore(new JWTFilter(jwtUtil, userCache), LoginFilter.class);
         http
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil,
+                        loginExecutor, objectMapper), UsernamePasswordAuthenticationFilter.class);
         //세션 설정
         http
                 .sessionManagement((session) -> session
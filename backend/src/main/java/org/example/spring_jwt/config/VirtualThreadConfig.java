@@ -0,0 +1,42 @@
+package org.example.spring_jwt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 가상 스레드 모드: spring.threads.virtual.enabled=true 이면 Spring Boot 가 Tomcat 요청 처리를 가상 스레드로 바꾸고
+// (SchedulingConfig 의 주기 작업, 적재, 공공데이터 API 호출도 가상 스레드), 여기서는 그 대신 풀려버리는 동시성 상한을 다시 건다.
+// - DB: DbConcurrencyLimitFilter (기본은 커넥션 풀 크기의 2배)
+// - 공공데이터 API: ChargerApiClient 의 charging.api.max-concurrent
+// BCrypt(LoginExecutor), 이미지 축소(ImageVariantService) 는 CPU 작업이라 모드와 상관없이 플랫폼 스레드 풀에서 돈다
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // DB 를 읽거나 쓰는 엔드포인트. 충전소 조회(/load_char_*)는 메모리 인덱스에서 응답하므로 제외
+    private static final String[] DB_BOUND_PATHS = {
+            "/load_location", "/load_location_bounds", "/load_nearest", "/load_clusters", "/load_all_location",
+            "/api/place/add", "/join"};
+
+    @Bean
+    public DbConcurrencyLimitFilter dbConcurrencyLimitFilter(
+            @Value("${db.max-concurrent-requests:0}") int maxConcurrent,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${db.limit-wait-ms:500}") long waitMillis) {
+        // 요청 시간 중 일부는 DB 밖(JSON 변환, 전송)이라 풀 크기보다 조금 더 받는다
+        return new DbConcurrencyLimitFilter(maxConcurrent > 0 ? maxConcurrent : poolSize * 2, waitMillis);
+    }
+
+    // 인증 실패 요청이 자리를 차지하지 않도록 Spring Security 다음에 둔다
+    @Bean
+    public FilterRegistrationBean<DbConcurrencyLimitFilter> dbConcurrencyLimitRegistration(DbConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<DbConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(DB_BOUND_PATHS);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -1,14 +1,85 @@
 package org.example.spring_jwt.controller;
 
+import org.example.spring_jwt.dto.LoginStatsDTO;
+import org.example.spring_jwt.jwt.LoginExecutor;
+import org.example.spring_jwt.place.dto.CacheStatsDTO;
+import org.example.spring_jwt.place.dto.SyncStatusDTO;
+import org.example.spring_jwt.place.service.ChargingService;
+import org.example.spring_jwt.place.service.PlaceService;
+import org.example.spring_jwt.place.service.StationSyncService;
+import org.example.spring_jwt.service.UserCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Controller
 @ResponseBody
 public class AdminController {
+    private final PlaceService placeService;
+    private final ChargingService chargingService;
+    private final StationSyncService stationSyncService;
+    private final LoginExecutor loginExecutor;
+    private final UserCache userCache;
+
+    public AdminController(PlaceService placeService, ChargingService chargingService, StationSyncService stationSyncService,
+                           LoginExecutor loginExecutor, UserCache userCache) {
+        this.placeService = placeService;
+        this.chargingService = chargingService;
+        this.stationSyncService = stationSyncService;
+        this.loginExecutor = loginExecutor;
+        this.userCache = userCache;
+    }
+
     @GetMapping("/admin")
     public String adminP() {
         return "admin Controller";
     }
+
+    // 주변 조회 캐시 hit/miss/eviction 통계
+    @GetMapping("/admin/cache")
+    public Map<String, CacheStatsDTO> cacheStats() {
+        Map<String, CacheStatsDTO> stats = new LinkedHashMap<>();
+        stats.put("load_location", placeService.getNearbyCacheStats());
+        stats.put("load_char_location", chargingService.getNearbyCacheStats());
+        return stats;
+    }
+
+    // 마지막 충전소 동기화 시각/소요 시간/건수
+    @GetMapping("/admin/sync")
+    public SyncStatusDTO syncStatus() {
+        return stationSyncService.getStatus();
+    }
+
+    // 충전소 동기화 즉시 실행
+    @PostMapping("/admin/sync")
+    public ResponseEntity<SyncStatusDTO> triggerSync() {
+        if (!stationSyncService.triggerSync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(stationSyncService.getStatus());
+        }
+        return ResponseEntity.accepted().body(stationSyncService.getStatus());
+    }
+
+    // 로그인 검증 풀 상태 (대기열 길이, 거절 수, 검증 소요 시간)
+    @GetMapping("/admin/login")
+    public LoginStatsDTO loginStats() {
+        return loginExecutor.getStats();
+    }
+
+    // DB 에서 직접 권한을 바꾸거나 계정을 지운 뒤 ttl 을 기다리지 않고 바로 반영 (username 이 없으면 전체)
+    @PostMapping("/admin/user-cache/evict")
+    public ResponseEntity<Void> evictUserCache(@RequestParam(required = false) String username) {
+        if (username == null) {
+            userCache.invalidateAll();
+        } else {
+            userCache.invalidate(username);
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
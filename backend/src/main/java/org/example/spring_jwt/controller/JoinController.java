@@ -3,6 +3,8 @@ package org.example.spring_jwt.controller;
 import org.example.spring_jwt.dto.JoinDTO;
 import org.example.spring_jwt.dto.ResponseDTO;
 import org.example.spring_jwt.service.JoinService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,6 +13,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class JoinController {
+
+    private static final Logger log = LoggerFactory.getLogger(JoinController.class);
     private final JoinService joinService;
     public JoinController(JoinService joinService) {
         this.joinService = joinService;
@@ -18,8 +22,7 @@ public class JoinController {
 
     @PostMapping("/join")
     public ResponseDTO JoinProcess(@RequestBody JoinDTO joinDTO) {
-        System.out.println("hello im ID"+joinDTO.getUsername());
-        System.out.println(joinDTO.getPassword());
+        log.info("join request: {}", joinDTO.getUsername());
         joinService.joinProcess(joinDTO);
         return new ResponseDTO("ok");
     }
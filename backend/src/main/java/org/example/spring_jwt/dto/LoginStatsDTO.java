@@ -0,0 +1,18 @@
+package org.example.spring_jwt.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class LoginStatsDTO {
+    private int poolSize;
+    private int activeCount;
+    private int queueDepth;
+    private int queueCapacity;
+    private long completedCount;
+    private long rejectedCount;
+    // 비밀번호 검증(사용자 조회 + BCrypt) 소요 시간
+    private double averageVerifyMillis;
+    private double maxVerifyMillis;
+}
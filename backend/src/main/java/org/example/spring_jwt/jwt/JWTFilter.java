@@ -6,7 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.spring_jwt.dto.CustomUserDetails;
 import org.example.spring_jwt.entity.UserEntity;
-import org.example.spring_jwt.service.CustomUserDetailService;
+import org.example.spring_jwt.service.UserCache;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,8 +16,10 @@ import java.io.IOException;
 
 public class JWTFilter extends OncePerRequestFilter {
     private final JWTUtil jwtUtil;
-    public JWTFilter(JWTUtil jwtUtil) {
+    private final UserCache userCache;
+    public JWTFilter(JWTUtil jwtUtil, UserCache userCache) {
         this.jwtUtil = jwtUtil;
+        this.userCache = userCache;
     }
 
 
@@ -25,28 +27,24 @@ public class JWTFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authorization =  request.getHeader("Authorization");
         if (authorization == null || !authorization.startsWith("Bearer ")) {
-            System.out.println("token null");
             filterChain.doFilter(request, response);
             return;
         }
 
-        System.out.println("authorization now");
-        String token = authorization.split(" ")[1];
-//        String token = authorization.substring(7);
-        if (jwtUtil.isExpired(token)) {
-            System.out.println("token expired");
+        // 잘못됐거나 만료된 토큰은 인증 없이 넘긴다
+        JWTUtil.VerifiedToken verified = jwtUtil.verify(authorization.substring(7));
+        if (verified == null) {
             filterChain.doFilter(request, response);
             return;
         }
-        System.out.println("token now");
 
-        String username = jwtUtil.getUsername(token);
-        String role = jwtUtil.getRole(token);
-
-        UserEntity userEntity =new UserEntity();
-        userEntity.setUsername(username);
-        userEntity.setPassword("temppassword");
-        userEntity.setRole(role);
+        // id 와 현재 권한은 사용자 캐시에서. 삭제된 계정이면 토큰이 유효해도 인증하지 않는다
+        UserEntity userEntity = userCache.findByUsername(verified.username());
+        if (userEntity == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        userEntity.setPassword(null);
 
         CustomUserDetails customUserDetails = new CustomUserDetails(userEntity);
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails,null,customUserDetails.getAuthorities());
@@ -1,37 +1,103 @@
 package org.example.spring_jwt.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWTUtil {
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    // 파서는 불변이라 요청마다 새로 만들지 않고 공유
+    private final JwtParser parser;
+    // 검증이 끝난 토큰. 토큰 원문 대신 SHA-256 으로 찾고, 만료되면 다시 검증하지 않고 버린다
+    private final Map<String, VerifiedToken> verified = new ConcurrentHashMap<>();
+    private final int cacheSize;
+    // 서명 검증(miss)과 캐시 조회(hit)는 비용 차이가 커서 나눠서 잰다
+    private final Timer hitTimer;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
 
-    public JWTUtil(@Value("${spring.jwt.secret}")String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}")String secret,
+                   @Value("${spring.jwt.cache-size:10000}") int cacheSize,
+                   MeterRegistry meterRegistry) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
-
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.cacheSize = cacheSize;
+        this.hitTimer = verifyTimer(meterRegistry, "hit", "valid");
+        this.validTimer = verifyTimer(meterRegistry, "miss", "valid");
+        this.invalidTimer = verifyTimer(meterRegistry, "miss", "invalid");
+        Gauge.builder("jwt.cache.size", verified, Map::size).register(meterRegistry);
     }
-    public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+
+    public record VerifiedToken(String username, String role, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
     }
-    public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role",String.class);
+
+    // 서명과 만료를 한번에 확인. 잘못됐거나 만료된 토큰이면 null
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        VerifiedToken cached = verified.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            verified.remove(digest, cached);
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+
+        VerifiedToken result = parse(token, now);
+        if (result == null) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        if (verified.size() >= cacheSize) {
+            evict(now);
+        }
+        verified.put(digest, result);
+        validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
     }
-    public Boolean isExpired(String token){
-        System.out.println("token!!!!! expired");
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+
+    private VerifiedToken parse(String token, long now) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= now) {
+            return null;
+        }
+        return new VerifiedToken(claims.get("username", String.class),
+                claims.get("role", String.class), expiration.getTime());
     }
-    public String createJwt(String username, String role, Long expiredMS) {
-        System.out.println("JWT issued at: " + new Date());
-        System.out.println("JWT expires at: " + new Date(System.currentTimeMillis() + expiredMS));
 
+    public String createJwt(String username, String role, Long expiredMS) {
         return Jwts.builder()
                 .claim("username", username)
                 .claim("role",role)
@@ -41,4 +107,35 @@ public class JWTUtil {
                 .compact();
     }
 
+    int cachedCount() {
+        return verified.size();
+    }
+
+    // 만료된 것부터 지우고, 그래도 가득 차 있으면 1/4 정도를 아무거나 비운다
+    private void evict(long now) {
+        verified.values().removeIf(token -> token.isExpired(now));
+        int excess = verified.size() - cacheSize * 3 / 4;
+        Iterator<String> keys = verified.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String cache, String result) {
+        return Timer.builder("jwt.verify")
+                .tag("cache", cache)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
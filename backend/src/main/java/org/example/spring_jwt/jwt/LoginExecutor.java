@@ -0,0 +1,126 @@
+package org.example.spring_jwt.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.spring_jwt.dto.LoginStatsDTO;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 로그인 비밀번호 검증(BCrypt)을 전용 스레드 풀에서 실행.
+// 풀과 대기열이 다 차면 바로 거절(429)해서, 로그인이 몰려도 요청 스레드는 대기열 크기만큼만 묶이고
+// 나머지 요청 스레드는 지도 조회 등에 그대로 쓰인다
+@Component
+public class LoginExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+    private final LongAdder verifyCount = new LongAdder();
+    private final AtomicLong maxVerifyNanos = new AtomicLong();
+    // 대기열 시간은 빼고 BCrypt 검증 자체만. Prometheus 에서 분포를 볼 수 있도록 bucket 도 내보낸다
+    private final Timer hashTimer;
+
+    public LoginExecutor(@Value("${login.pool-size:0}") int poolSize,
+                         @Value("${login.queue-capacity:64}") int queueCapacity,
+                         @Value("${login.timeout-ms:5000}") long timeoutMillis,
+                         MeterRegistry meterRegistry) {
+        // BCrypt 는 CPU 작업이라 기본값은 코어 수
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.hashTimer = Timer.builder("login.hash.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // 풀이 가득 찼거나 제한 시간 안에 끝나지 않으면 LoginRejectedException
+    public <T> T verify(Callable<T> verification) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(verification));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginRejectedException("login queue is full");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new LoginRejectedException("login verification timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new AuthenticationServiceException("Authentication interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AuthenticationServiceException("Authentication failed.", e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> verification) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return verification.call();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            hashTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            verifyNanos.add(elapsed);
+            verifyCount.increment();
+            maxVerifyNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    public LoginStatsDTO getStats() {
+        LoginStatsDTO stats = new LoginStatsDTO();
+        stats.setPoolSize(executor.getMaximumPoolSize());
+        stats.setActiveCount(executor.getActiveCount());
+        stats.setQueueDepth(executor.getQueue().size());
+        stats.setQueueCapacity(queueCapacity);
+        stats.setCompletedCount(executor.getCompletedTaskCount());
+        stats.setRejectedCount(rejected.sum());
+        long count = verifyCount.sum();
+        stats.setAverageVerifyMillis(count == 0 ? 0 : verifyNanos.sum() / 1_000_000.0 / count);
+        stats.setMaxVerifyMillis(maxVerifyNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // 로그인 폭주로 받아주지 못한 경우 (LoginFilter 가 429 로 응답)
+    public static class LoginRejectedException extends AuthenticationServiceException {
+        public LoginRejectedException(String message) {
+            super(message);
+        }
+    }
+}
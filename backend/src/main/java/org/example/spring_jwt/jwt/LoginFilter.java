@@ -1,10 +1,12 @@
 package org.example.spring_jwt.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.spring_jwt.dto.CustomUserDetails;
+import org.example.spring_jwt.dto.JoinDTO;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,26 +14,28 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
 
     private final JWTUtil jwtUtil;
+    private final LoginExecutor loginExecutor;
+    // ObjectReader 는 불변이라 요청마다 만들지 않고 공유
+    private final ObjectReader loginReader;
     private static final String CONTENT_TYPE = "application/json";
 
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil) {
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, LoginExecutor loginExecutor,
+                       ObjectMapper objectMapper) {
 
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.loginExecutor = loginExecutor;
+        this.loginReader = objectMapper.readerFor(JoinDTO.class);
     }
 
     @Override
@@ -40,21 +44,18 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         if(request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE)  ) {
             throw new AuthenticationServiceException("Authentication Content-Type not supported: " + request.getContentType());
         }
-        String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
-        ObjectMapper objectMapper = new ObjectMapper();
-        Map<String, String> loginData = objectMapper.readValue(body, Map.class);
+        // 본문을 문자열로 모으지 않고 스트림에서 바로 읽는다
+        JoinDTO loginData = loginReader.readValue(request.getInputStream());
 
-        String username = loginData.get("username");
-        String password = loginData.get("password");
+        String username = loginData.getUsername();
+        String password = loginData.getPassword();
 
 //        String username = obtainUsername(request);
 //        String password = obtainPassword(request);
 
-        System.out.println("username: " + username);
-        System.out.println("password: " + password);
-
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password, null);
-        return authenticationManager.authenticate(authToken);
+        // BCrypt 검증은 요청 스레드가 아니라 로그인 전용 풀에서
+        return loginExecutor.verify(() -> authenticationManager.authenticate(authToken));
     }catch (IOException e){
             throw new AuthenticationServiceException("Authentication failed.", e);
         }
@@ -93,6 +94,11 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) {
 //        System.out.println("unsuccessful_Authentication");
+        if (failed instanceof LoginExecutor.LoginRejectedException) {
+            response.setStatus(429);
+            response.setHeader("Retry-After", "1");
+            return;
+        }
         response.setStatus(401);
     }
 }
\ No newline at end of file
@@ -1,15 +1,19 @@
 package org.example.spring_jwt.place.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.example.spring_jwt.place.dto.PlaceDTO;
+import org.example.spring_jwt.place.image.ImageStorage;
+import org.example.spring_jwt.place.image.ImageVariant;
+import org.example.spring_jwt.place.image.ImageVariantService;
 import org.example.spring_jwt.place.service.PlaceService;
-import org.example.spring_jwt.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Value;
+import org.example.spring_jwt.place.upload.StreamingUploadReader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.util.Map;
 
 
 @RestController
@@ -18,48 +22,75 @@ import java.io.IOException;
 public class AddPlaceController {
 
     private final PlaceService placeService;
-    private final UserRepository userRepository;
+    private final ImageStorage imageStorage;
+    private final ImageVariantService imageVariantService;
+    private final StreamingUploadReader uploadReader;
 
-    public AddPlaceController(PlaceService placeService, UserRepository userRepository) {
+    public AddPlaceController(PlaceService placeService, ImageStorage imageStorage,
+                              ImageVariantService imageVariantService, StreamingUploadReader uploadReader) {
         this.placeService = placeService;
-        this.userRepository = userRepository;
+        this.imageStorage = imageStorage;
+        this.imageVariantService = imageVariantService;
+        this.uploadReader = uploadReader;
     }
-    // 장소 등록 API
-    @Value("${spring.my.path}")
-    private String basePath;
+    // 장소 등록 API. 사진은 받는 대로 저장소에 바로 쓰도록 multipart 를 직접 스트리밍으로 읽는다
+    // 필드: placeTitle, lat, lng, per_price, placeDescription, placeImageURL(파일), char_type, play_time, max_car
     @PostMapping("/add")
-    public ResponseEntity<String> addPlace(
-            @RequestParam("placeTitle") String placeTitle,
-            @RequestParam("lat") Double latitude,
-            @RequestParam("lng") Double longitude,
-            @RequestParam("per_price") Integer per_price,
-            @RequestParam("placeDescription") String placeDescription,
-            @RequestParam("placeImageURL") MultipartFile imageFile,
-            @RequestParam("char_type") String char_type,
-            @RequestParam("play_time") String play_time,
-            @RequestParam("max_car") String max_car) throws IOException {
+    public ResponseEntity<String> addPlace(HttpServletRequest request) throws IOException {
+        StreamingUploadReader.Upload upload;
+        try {
+            upload = uploadReader.read(request, "placeImageURL");
+        } catch (StreamingUploadReader.UploadRejectedException e) {
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getStatus());
+            if (e.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+                response.header(HttpHeaders.RETRY_AFTER, "1");
+            }
+            return response.body(e.getMessage());
+        }
 
-        PlaceDTO placeDTO = new PlaceDTO();
-
-
-
-//        String path = "/Users/mingyun/Desktop/project/spring_jwt/src/main/java/org/example/spring_jwt/place/image/"+imageFile.getOriginalFilename();
-        String path = basePath+imageFile.getOriginalFilename();
-        imageFile.transferTo(new File(path));
-
-        placeDTO.setPlaceTitle(placeTitle);
-        placeDTO.setLatitude(latitude);
-        placeDTO.setLongitude(longitude);
-        placeDTO.setPlaceImageURL(path);
-        placeDTO.setPer_price(per_price);
-        placeDTO.setPlaceDescription(placeDescription);
-        placeDTO.setChar_type(char_type);
-        placeDTO.setPlay_time(play_time);
-        placeDTO.setMax_car(max_car);
-
-        System.out.println("Adding place " + placeDTO.getPlaceImageURL());
+        ImageStorage.StoredImage image = upload.image();
+        PlaceDTO placeDTO;
+        try {
+            placeDTO = toPlaceDTO(upload.fields());
+        } catch (IllegalArgumentException e) {
+            placeDTO = null;
+        }
+        // 원본은 내용 해시 이름으로 저장됐고 (같은 사진은 한 파일), 축소본은 뒤에서 생성
+        if (placeDTO == null || image == null || !imageStorage.isImage(image.key())) {
+            if (image != null && image.created()) {
+                imageStorage.delete(image.key());
+            }
+            return ResponseEntity.badRequest().body(placeDTO == null
+                    ? "입력값을 확인해주세요."
+                    : "이미지 파일만 올릴 수 있습니다.");
+        }
+        imageVariantService.generateAsync(image.key());
 
+        placeDTO.setImageKey(image.key());
+        placeDTO.setPlaceImageURL(PlaceService.IMAGE_URL_PREFIX + ImageVariant.POPUP.key(image.key()));
         placeService.addPlaceProcess(placeDTO);
         return ResponseEntity.ok("장소가 성공적으로 등록되었습니다.");
     }
+
+    // 빠졌거나 숫자가 아닌 값이 있으면 IllegalArgumentException
+    private static PlaceDTO toPlaceDTO(Map<String, String> fields) {
+        PlaceDTO placeDTO = new PlaceDTO();
+        placeDTO.setPlaceTitle(required(fields, "placeTitle"));
+        placeDTO.setLatitude(Double.valueOf(required(fields, "lat")));
+        placeDTO.setLongitude(Double.valueOf(required(fields, "lng")));
+        placeDTO.setPer_price(Integer.valueOf(required(fields, "per_price")));
+        placeDTO.setPlaceDescription(required(fields, "placeDescription"));
+        placeDTO.setChar_type(required(fields, "char_type"));
+        placeDTO.setPlay_time(required(fields, "play_time"));
+        placeDTO.setMax_car(required(fields, "max_car"));
+        return placeDTO;
+    }
+
+    private static String required(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("missing field: " + name);
+        }
+        return value;
+    }
 }
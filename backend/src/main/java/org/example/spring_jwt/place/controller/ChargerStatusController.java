@@ -0,0 +1,56 @@
+package org.example.spring_jwt.place.controller;
+
+import org.example.spring_jwt.place.dto.OccupancyDTO;
+import org.example.spring_jwt.place.dto.StationStatusDTO;
+import org.example.spring_jwt.place.service.ChargerHistoryService;
+import org.example.spring_jwt.place.service.ChargerStatusService;
+import org.example.spring_jwt.place.service.ChargerStatusStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class ChargerStatusController {
+    private final ChargerStatusService chargerStatusService;
+    private final ChargerStatusStreamService chargerStatusStreamService;
+    private final ChargerHistoryService chargerHistoryService;
+
+    public ChargerStatusController(ChargerStatusService chargerStatusService,
+                                   ChargerStatusStreamService chargerStatusStreamService,
+                                   ChargerHistoryService chargerHistoryService) {
+        this.chargerStatusService = chargerStatusService;
+        this.chargerStatusStreamService = chargerStatusStreamService;
+        this.chargerHistoryService = chargerHistoryService;
+    }
+
+    // 충전소의 충전기별 현재 상태 (서버 메모리에서 바로 응답)
+    @GetMapping("/char_status")
+    public ResponseEntity<StationStatusDTO> chargerStatus(@RequestParam String statId) {
+        return ResponseEntity.ok(chargerStatusService.getStationStatus(statId));
+    }
+
+    // 화면 영역 안 충전기의 상태 변경분을 SSE("status" 이벤트, ChargerStatusDTO 배열)로 전달.
+    // 영역이 바뀌면 클라이언트가 새로 연결한다
+    @GetMapping(value = "/char_status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> chargerStatusStream(@RequestParam double south, @RequestParam double west,
+                                                          @RequestParam double north, @RequestParam double east) {
+        try {
+            return ResponseEntity.ok(chargerStatusStreamService.subscribe(south, west, north, east));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 최근 days 일 동안의 충전소 점유율 (일별 + 전체)
+    @GetMapping("/char_occupancy")
+    public ResponseEntity<OccupancyDTO> chargerOccupancy(@RequestParam String statId,
+                                                         @RequestParam(defaultValue = "7") int days) {
+        if (days < 1 || days > ChargerHistoryService.MAX_DAYS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(chargerHistoryService.getOccupancy(statId, days));
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.spring_jwt.place.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.spring_jwt.place.image.ImageStorage;
+import org.example.spring_jwt.place.image.ImageVariantService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// ImageStorage 의 이미지를 내려준다.
+// - 파일 이름이 내용 해시라 내용이 바뀌지 않으므로 강한 ETag + immutable 로 브라우저/CDN 이 계속 캐시
+// - Tomcat sendfile 이 되면 커널이 파일을 바로 소켓으로 보내고(heap, 요청 스레드 사용 없음),
+//   안 되면 요청 스레드가 64KB 버퍼로 나눠 복사한다 (zero-copy 아님, copyRange 참고)
+// - Range 는 한 구간만 지원 (여러 구간 요청에는 전체를 200 으로)
+@RestController
+public class ImageController {
+
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    // 축소본이 아직 없어 원본으로 대신 줄 때. 곧 축소본이 생기므로 짧게
+    static final String FALLBACK = "public, max-age=60";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int ORIGINAL_KEY_LENGTH = 40;
+    static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final ImageStorage imageStorage;
+    private final ImageVariantService imageVariantService;
+
+    public ImageController(ImageStorage imageStorage, ImageVariantService imageVariantService) {
+        this.imageStorage = imageStorage;
+        this.imageVariantService = imageVariantService;
+    }
+
+    @RequestMapping(value = "/images/{key}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void image(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path file = imageStorage.resolve(key);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String servedKey = key;
+        String cacheControl = IMMUTABLE;
+        if (!Files.exists(file) && key.length() > ORIGINAL_KEY_LENGTH) {
+            // 축소본이 아직 없으면 (다시) 만들도록 하고 원본으로 대신
+            servedKey = key.substring(0, ORIGINAL_KEY_LENGTH);
+            file = imageStorage.resolve(servedKey);
+            cacheControl = FALLBACK;
+            if (Files.exists(file)) {
+                imageVariantService.generateAsync(servedKey);
+            }
+        }
+        if (!Files.exists(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + servedKey + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] parsed;
+            try {
+                parsed = parseRange(range, length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed != null) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+            }
+        }
+
+        response.setContentType(contentType(file));
+        response.setContentLengthLong(end - start);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        copyRange(file, start, end, response.getOutputStream());
+    }
+
+    // sendfile 을 못 쓸 때. 서블릿 출력은 소켓 채널이 아니라 FileChannel.transferTo 를 써도 JDK 안에서 같은 복사를 하므로
+    // 요청마다 버퍼 하나를 잡고 직접 나눠 보낸다. 청크마다 파일 → (JDK 임시 direct 버퍼) → 이 heap 버퍼 → Tomcat 출력 버퍼로
+    // 복사가 두세 번 일어나고, 전송이 끝날 때까지 요청 스레드가 묶인다
+    static void copyRange(Path file, long start, long end, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(COPY_BUFFER_BYTES, Math.max(1, end - start)));
+            long position = start;
+            while (position < end) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    // Content-Length 를 이미 보냈으므로 짧게 끝내지 않고 실패로
+                    throw new EOFException("image shrank while sending: " + file);
+                }
+                out.write(buffer.array(), 0, read);
+                position += read;
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // [start, end) 반환. 지원하지 않는 형식이나 여러 구간이면 null(전체), 만족할 수 없는 구간이면 IllegalArgumentException
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N byte
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    throw new IllegalArgumentException("empty suffix range");
+                }
+                start = Math.max(0, length - suffix);
+                end = length;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length : Math.min(length, Long.parseLong(last) + 1);
+            }
+            if (start >= length || start >= end) {
+                throw new IllegalArgumentException("unsatisfiable range");
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String contentType(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            String type = URLConnection.guessContentTypeFromStream(in);
+            return type != null ? type : "application/octet-stream";
+        }
+    }
+}
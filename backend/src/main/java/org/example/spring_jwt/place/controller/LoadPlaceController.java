@@ -1,9 +1,15 @@
 package org.example.spring_jwt.place.controller;
 
+import org.example.spring_jwt.place.dto.BusyHoursDTO;
+import org.example.spring_jwt.place.dto.LoadAllPlaceDTO;
 import org.example.spring_jwt.place.dto.LoadCharPlaceDTO;
+import org.example.spring_jwt.place.dto.LoadClusterDTO;
 import org.example.spring_jwt.place.dto.LoadPlaceDTO;
 import org.example.spring_jwt.place.dto.PlaceDTO;
 import org.example.spring_jwt.place.service.ChargingService;
+import org.example.spring_jwt.place.service.ClusterService;
+import org.example.spring_jwt.place.service.MapLoadService;
+import org.example.spring_jwt.place.service.OccupancyRollupService;
 import org.example.spring_jwt.place.service.PlaceService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,32 +22,130 @@ import java.util.Map;
 
 @RestController
 public class LoadPlaceController {
+    private static final int MAX_NEAREST_LIMIT = 100;
+    // 영역 조회는 인증 없이 열려 있으므로 한 번에 읽는 범위와 개수를 막는다.
+    // 이보다 넓은 화면(대략 줌 10 이하)은 /load_clusters 로 묶어서 받는다
+    static final double MAX_BOUNDS_SPAN_DEG = 0.5;
+    // 화면 중심에서 가까운 순으로 이 개수까지만
+    static final int MAX_BOUNDS_RESULTS = 2000;
+
     private final PlaceService placeService;
     private final ChargingService chargingService;
-    public LoadPlaceController(PlaceService placeService, ChargingService chargingService) {
+    private final ClusterService clusterService;
+    private final OccupancyRollupService occupancyRollupService;
+    private final MapLoadService mapLoadService;
+    public LoadPlaceController(PlaceService placeService, ChargingService chargingService, ClusterService clusterService,
+                               OccupancyRollupService occupancyRollupService, MapLoadService mapLoadService) {
         this.placeService = placeService;
         this.chargingService = chargingService;
+        this.clusterService = clusterService;
+        this.occupancyRollupService = occupancyRollupService;
+        this.mapLoadService = mapLoadService;
     }
 
     @GetMapping("/load_location")
     public ResponseEntity<LoadPlaceDTO> loadLocation(@RequestParam double lat, @RequestParam double lng) {
-        System.out.println("Loading location");
-        System.out.println("latitude: " + lat);
-        System.out.println("longitude: " + lng);
-
         LoadPlaceDTO response = placeService.findNearbyLocations(lat, lng);
-        System.out.println(response);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/load_char_location")
     public ResponseEntity<LoadCharPlaceDTO> loadCharLocation(@RequestParam double lat, @RequestParam double lng) {
         LoadCharPlaceDTO response = chargingService.findCharNearbyLocations(lat, lng);
-        System.out.println(response);
         return ResponseEntity.ok(response);
     }
 
+    // 지도를 옮길 때 부르는 두 조회(/load_location + /load_char_location)를 한 요청으로
+    @GetMapping("/load_all_location")
+    public ResponseEntity<LoadAllPlaceDTO> loadAllLocation(@RequestParam double lat, @RequestParam double lng) {
+        return ResponseEntity.ok(mapLoadService.loadNearby(lat, lng));
+    }
+
+    // 충전소의 요일 x 시간별 평균 점유율 ("6시에 자리가 있을까?")
+    @GetMapping("/load_char_busy_hours")
+    public ResponseEntity<BusyHoursDTO> loadCharBusyHours(@RequestParam String statId) {
+        BusyHoursDTO response = occupancyRollupService.getBusyHours(statId);
+        if (response == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    // 지도 화면 영역(남서~북동) 기준 조회
+    @GetMapping("/load_location_bounds")
+    public ResponseEntity<LoadPlaceDTO> loadLocationInBounds(@RequestParam double south, @RequestParam double west,
+                                                             @RequestParam double north, @RequestParam double east) {
+        if (!isValidBounds(south, west, north, east) || isTooLarge(south, west, north, east)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(placeService.findLocationsInBounds(south, west, north, east, MAX_BOUNDS_RESULTS));
+    }
+
+    @GetMapping("/load_char_location_bounds")
+    public ResponseEntity<LoadCharPlaceDTO> loadCharLocationInBounds(@RequestParam double south, @RequestParam double west,
+                                                                     @RequestParam double north, @RequestParam double east) {
+        if (!isValidBounds(south, west, north, east) || isTooLarge(south, west, north, east)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(chargingService.findCharLocationsInBounds(south, west, north, east, MAX_BOUNDS_RESULTS));
+    }
 
+    // 가까운 순 limit 개씩. 응답의 nextCursor 를 cursor 로 넘기면 그 다음 페이지
+    @GetMapping("/load_nearest")
+    public ResponseEntity<LoadPlaceDTO> loadNearest(@RequestParam double lat, @RequestParam double lng,
+                                                    @RequestParam(defaultValue = "20") int limit,
+                                                    @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > MAX_NEAREST_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(placeService.findNearestLocations(lat, lng, limit, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    @GetMapping("/load_char_nearest")
+    public ResponseEntity<LoadCharPlaceDTO> loadCharNearest(@RequestParam double lat, @RequestParam double lng,
+                                                            @RequestParam(defaultValue = "20") int limit,
+                                                            @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > MAX_NEAREST_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(chargingService.findCharNearestLocations(lat, lng, limit, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    // 줌 레벨에 맞게 미리 묶어둔 클러스터 조회. 충분히 확대하면 개별 마커를 내려준다
+    @GetMapping("/load_clusters")
+    public ResponseEntity<LoadClusterDTO> loadClusters(@RequestParam double south, @RequestParam double west,
+                                                       @RequestParam double north, @RequestParam double east,
+                                                       @RequestParam int zoom) {
+        if (!isValidBounds(south, west, north, east)) {
+            return ResponseEntity.badRequest().build();
+        }
+        LoadClusterDTO response = new LoadClusterDTO();
+        response.setZoom(zoom);
+        // 확대 수준만 크게 보내고 영역은 넓게 잡으면 개별 마커 대신 가장 세밀한 클러스터로
+        if (zoom >= ClusterService.INDIVIDUAL_ZOOM && !isTooLarge(south, west, north, east)) {
+            LoadAllPlaceDTO markers = mapLoadService.loadInBounds(south, west, north, east, MAX_BOUNDS_RESULTS);
+            response.setCharPoi(markers.getCharPoi());
+            response.setPlacePoi(markers.getPlacePoi());
+        } else {
+            response.setCharClusters(clusterService.findStationClusters(zoom, south, west, north, east));
+            response.setPlaceClusters(clusterService.findPlaceClusters(zoom, south, west, north, east));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    static boolean isValidBounds(double south, double west, double north, double east) {
+        return south <= north && west <= east;
+    }
+
+    static boolean isTooLarge(double south, double west, double north, double east) {
+        return north - south > MAX_BOUNDS_SPAN_DEG || east - west > MAX_BOUNDS_SPAN_DEG;
+    }
 }
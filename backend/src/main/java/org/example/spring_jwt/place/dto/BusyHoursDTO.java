@@ -0,0 +1,14 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BusyHoursDTO {
+    private String statId;
+    // weekly[요일][시] 점유율 0~1 (요일 0 = 월요일, 한국 시간). 관측이 없는 칸은 null
+    private List<List<Double>> weekly;
+}
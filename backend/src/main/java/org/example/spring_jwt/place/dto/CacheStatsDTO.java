@@ -0,0 +1,17 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CacheStatsDTO {
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    // 이미 진행 중인 같은 조회를 기다린 횟수 (single-flight)
+    private long coalesced;
+    private long evictions;
+    private long invalidations;
+}
@@ -0,0 +1,14 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 충전기 하나의 상태 (stat: 1 통신이상, 2 충전대기, 3 충전중, 4 운영중지, 5 점검중, 9 상태미확인)
+@Getter
+@Setter
+public class ChargerStatusDTO {
+    private String statId;
+    private String chgerId;
+    private String stat;
+    private String statUpdDt;
+}
@@ -0,0 +1,18 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ClusterDTO {
+    private int count;
+    // 클러스터에 속한 점들의 중심
+    private double lat;
+    private double lng;
+    // 클러스터에 속한 점들의 경계 상자
+    private double south;
+    private double west;
+    private double north;
+    private double east;
+}
@@ -0,0 +1,15 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DailyOccupancyDTO {
+    // yyyy-MM-dd
+    private String date;
+    // 상태를 아는 충전기-시간 중 충전중 비율 (0~1). 관측이 없으면 null
+    private Double occupancyRate;
+    // 상태를 아는 충전기-시간 합 (분)
+    private long observedMinutes;
+}
@@ -0,0 +1,14 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 지도 한 화면에 필요한 장소 + 충전소 마커를 한번에
+@Getter
+@Setter
+public class LoadAllPlaceDTO {
+    private List<PlaceDTO> placePoi;
+    private List<ChargingDTO> charPoi;
+}
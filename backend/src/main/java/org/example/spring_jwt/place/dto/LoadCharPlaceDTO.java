@@ -9,4 +9,6 @@ import java.util.List;
 @Setter
 public class LoadCharPlaceDTO {
     private List<ChargingDTO> poi;
+    // 가까운 순 조회에서 다음 페이지를 요청할 때 넘기는 값 (마지막 페이지면 null)
+    private String nextCursor;
 }
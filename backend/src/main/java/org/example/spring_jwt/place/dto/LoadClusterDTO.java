@@ -0,0 +1,17 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class LoadClusterDTO {
+    private int zoom;
+    private List<ClusterDTO> charClusters;
+    private List<ClusterDTO> placeClusters;
+    // 확대 수준이 충분히 높을 때만 개별 마커를 내려준다
+    private List<ChargingDTO> charPoi;
+    private List<PlaceDTO> placePoi;
+}
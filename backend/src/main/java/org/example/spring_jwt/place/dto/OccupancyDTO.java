@@ -0,0 +1,17 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class OccupancyDTO {
+    private String statId;
+    private int days;
+    // 기간 중 상태가 한번이라도 기록된 충전기 수
+    private int chargerCount;
+    private Double occupancyRate;
+    private List<DailyOccupancyDTO> daily;
+}
@@ -12,6 +12,10 @@ public class PlaceDTO {
     private Double latitude;
     private Double longitude;
     private String placeImageURL;
+    // 지도 마커용 작은 이미지
+    private String thumbnailImageURL;
+    // 업로드 원본의 ImageStorage 키 (등록할 때만 사용)
+    private String imageKey;
     private Integer per_price;
     private int userId;
     private int placeId;
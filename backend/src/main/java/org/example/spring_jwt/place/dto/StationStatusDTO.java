@@ -0,0 +1,13 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class StationStatusDTO {
+    private String statId;
+    private List<ChargerStatusDTO> chargers;
+}
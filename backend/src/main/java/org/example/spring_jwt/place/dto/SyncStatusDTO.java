@@ -0,0 +1,23 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class SyncStatusDTO {
+    private boolean running;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastFinishedAt;
+    private long lastDurationMs;
+    private boolean lastSucceeded;
+    private String lastError;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int removed;
+    // 현재 메모리 인덱스에 올라간 충전소 수
+    private int indexedStations;
+}
@@ -0,0 +1,54 @@
+package org.example.spring_jwt.place.dto;
+
+import lombok.Getter;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 충전소 일괄 upsert 결과
+@Getter
+public class UpsertResult {
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int removed;
+    // 새로 들어가거나 내용이 바뀐 충전소 (인덱스/캐시 갱신용)
+    private final List<ChargingStationEntity> changed = new ArrayList<>();
+
+    public void addInserted(ChargingStationEntity station) {
+        inserted++;
+        changed.add(station);
+    }
+
+    public void addUpdated(ChargingStationEntity station) {
+        updated++;
+        changed.add(station);
+    }
+
+    public void addUnchanged() {
+        unchanged++;
+    }
+
+    public void addRemoved(int count) {
+        removed += count;
+    }
+
+    public void merge(UpsertResult other) {
+        mergeCounts(other);
+        changed.addAll(other.changed);
+    }
+
+    // 건수만 합친다 (큰 적재에서 변경 목록을 계속 들고 있지 않도록)
+    public void mergeCounts(UpsertResult other) {
+        inserted += other.inserted;
+        updated += other.updated;
+        unchanged += other.unchanged;
+        removed += other.removed;
+    }
+
+    @Override
+    public String toString() {
+        return "inserted=" + inserted + ", updated=" + updated + ", unchanged=" + unchanged + ", removed=" + removed;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.spring_jwt.place.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// 충전소 안의 충전기 하나. 상태 이력은 DB 가 아니라 StatusHistoryStore 파일에 쌓는다
+@Entity
+@Getter
+@Setter
+@Table(name = "charger",
+        indexes = @Index(name = "idx_charger_station_id", columnList = "stationId"))
+public class ChargerEntity {
+
+    // stationId + "-" + chgerId
+    @Id
+    private String chargerId;
+
+    private String stationId;
+
+    private String chgerId;
+
+    // 충전기 타입 코드 (01 DC차데모, 02 AC완속, 03 DC차데모+AC3상, ...)
+    private String chgerType;
+
+    // 충전 용량 (kW)
+    private Integer output;
+
+    public static String chargerId(String stationId, String chgerId) {
+        return stationId + "-" + chgerId;
+    }
+}
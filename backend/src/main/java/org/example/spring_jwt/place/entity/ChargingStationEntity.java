@@ -2,6 +2,7 @@ package org.example.spring_jwt.place.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,11 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "charging_station")
+@Table(name = "charging_station",
+        indexes = {
+                @Index(name = "idx_charging_station_lat_lng", columnList = "latitude, longitude"),
+                @Index(name = "idx_charging_station_zcode", columnList = "zcode")
+        })
 public class ChargingStationEntity {
 
     @Id
@@ -26,4 +31,10 @@ public class ChargingStationEntity {
     private String operatorName;
 
     private String operatorTel;
+
+    // 적재한 지역(시도) 코드. 동기화 때 API 에서 사라진 충전소를 지역 단위로 정리하는 데 쓴다
+    private String zcode;
+
+    // 위 내용의 해시. 동기화 때 바뀐 충전소만 골라 쓰는 데 쓴다
+    private String contentHash;
 }
\ No newline at end of file
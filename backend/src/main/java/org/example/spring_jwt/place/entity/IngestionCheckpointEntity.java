@@ -0,0 +1,29 @@
+package org.example.spring_jwt.place.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 지역(zcode)별 충전소 적재 진행 상황. 중간에 죽은 적재는 lastCompletedPage 다음부터 이어서 한다
+@Entity
+@Getter
+@Setter
+@Table(name = "ingestion_checkpoint")
+public class IngestionCheckpointEntity {
+
+    @Id
+    private String zcode;
+
+    // 1 페이지부터 연속으로 끝난 마지막 페이지
+    private int lastCompletedPage;
+
+    private int totalPages;
+
+    private boolean completed;
+
+    private LocalDateTime updatedAt;
+}
@@ -8,6 +8,7 @@ import org.example.spring_jwt.entity.UserEntity;
 @Entity
 @Setter
 @Getter
+@Table(indexes = @Index(name = "idx_place_entity_lat_lng", columnList = "latitude, longitude"))
 public class PlaceEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,7 +24,13 @@ public class PlaceEntity {
     private String char_type;
     private String max_car;
 
-    @ManyToOne // 여러 PlaceDomain이 하나의 UserEntity와 연관될 수 있음
+    // 업로드 원본의 ImageStorage 키와 축소본 키 (ImageVariant)
+    private String imageKey;
+    private String thumbnailImageKey;
+    private String popupImageKey;
+    private String fullImageKey;
+
+    @ManyToOne(fetch = FetchType.LAZY) // 여러 PlaceDomain이 하나의 UserEntity와 연관될 수 있음
     @JoinColumn(name = "userid")    // 외래 키로 사용될 컬럼 이름
     private UserEntity user;
 
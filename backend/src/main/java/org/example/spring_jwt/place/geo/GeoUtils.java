@@ -0,0 +1,33 @@
+package org.example.spring_jwt.place.geo;
+
+public final class GeoUtils {
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이의 거리 (km) - repository 의 native 쿼리와 같은 구면 거리
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 반경(km)을 위도 방향 degree 로 변환
+    public static double latDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE_LAT;
+    }
+
+    // 반경(km)을 해당 위도에서의 경도 방향 degree 로 변환
+    public static double lngDelta(double lat, double radiusKm) {
+        double cos = Math.cos(Math.toRadians(lat));
+        if (cos < 1e-6) {
+            return 360.0;
+        }
+        return Math.min(360.0, radiusKm / (KM_PER_DEGREE_LAT * cos));
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.spring_jwt.place.geo;
+
+import org.example.spring_jwt.place.dto.ClusterDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 줌 레벨별로 미리 묶어둔 마커 클러스터.
+// 점이 추가/이동/삭제될 때 각 줌 레벨의 칸 하나씩만 갱신하므로 요청 시에는 칸을 읽기만 한다.
+public class MarkerClusterIndex {
+
+    public static final int MIN_ZOOM = 3;
+    public static final int MAX_ZOOM = 14;
+
+    // 256px 타일 하나를 4x4 칸으로 나눈 크기 (약 64px 마커 간격)
+    private static final int CELLS_PER_TILE = 4;
+
+    private final List<Map<Long, Cluster>> levels = new ArrayList<>();
+    private final Map<String, double[]> points = new HashMap<>();
+
+    public MarkerClusterIndex() {
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public synchronized void clear() {
+        points.clear();
+        for (Map<Long, Cluster> level : levels) {
+            level.clear();
+        }
+    }
+
+    public synchronized int size() {
+        return points.size();
+    }
+
+    // 새 점 추가 또는 기존 점 좌표 갱신
+    public synchronized void put(String id, double lat, double lng) {
+        double[] previous = points.get(id);
+        if (previous != null) {
+            if (previous[0] == lat && previous[1] == lng) {
+                return;
+            }
+            remove(id);
+        }
+        points.put(id, new double[]{lat, lng});
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            long key = key(zoom, lat, lng);
+            levels.get(zoom - MIN_ZOOM).computeIfAbsent(key, k -> new Cluster()).add(lat, lng);
+        }
+    }
+
+    public synchronized void remove(String id) {
+        double[] previous = points.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            Map<Long, Cluster> level = levels.get(zoom - MIN_ZOOM);
+            long key = key(zoom, previous[0], previous[1]);
+            Cluster cluster = level.get(key);
+            if (cluster != null && cluster.remove(previous[0], previous[1]) == 0) {
+                level.remove(key);
+            }
+        }
+    }
+
+    // 화면 영역과 겹치는 클러스터 조회
+    public List<ClusterDTO> query(int zoom, double south, double west, double north, double east) {
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        Map<Long, Cluster> level = levels.get(z - MIN_ZOOM);
+        double cell = cellSize(z);
+
+        long minRow = (long) Math.floor((south + 90.0) / cell);
+        long maxRow = (long) Math.floor((north + 90.0) / cell);
+        long minCol = (long) Math.floor((west + 180.0) / cell);
+        long maxCol = (long) Math.floor((east + 180.0) / cell);
+
+        List<ClusterDTO> result = new ArrayList<>();
+        long cellsInBounds = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellsInBounds > level.size()) {
+            // 화면이 넓으면 칸을 하나씩 찾는 것보다 존재하는 클러스터를 훑는 편이 싸다
+            for (Map.Entry<Long, Cluster> entry : level.entrySet()) {
+                long row = entry.getKey() >> 32;
+                long col = entry.getKey() & 0xffffffffL;
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    addSnapshot(result, entry.getValue());
+                }
+            }
+        } else {
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Cluster cluster = level.get((row << 32) | col);
+                    if (cluster != null) {
+                        addSnapshot(result, cluster);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addSnapshot(List<ClusterDTO> result, Cluster cluster) {
+        ClusterDTO dto = cluster.snapshot();
+        if (dto != null) {
+            result.add(dto);
+        }
+    }
+
+    static double cellSize(int zoom) {
+        return 360.0 / (1L << zoom) / CELLS_PER_TILE;
+    }
+
+    static long key(int zoom, double lat, double lng) {
+        double cell = cellSize(zoom);
+        long row = (long) Math.floor((lat + 90.0) / cell);
+        long col = (long) Math.floor((lng + 180.0) / cell);
+        return (row << 32) | col;
+    }
+
+    private static final class Cluster {
+        private int count;
+        private double sumLat;
+        private double sumLng;
+        private double south = Double.POSITIVE_INFINITY;
+        private double west = Double.POSITIVE_INFINITY;
+        private double north = Double.NEGATIVE_INFINITY;
+        private double east = Double.NEGATIVE_INFINITY;
+
+        synchronized void add(double lat, double lng) {
+            count++;
+            sumLat += lat;
+            sumLng += lng;
+            south = Math.min(south, lat);
+            north = Math.max(north, lat);
+            west = Math.min(west, lng);
+            east = Math.max(east, lng);
+        }
+
+        // 경계 상자는 줄이지 않는다 (점이 빠져도 기존 범위를 포함하는 안전한 값)
+        synchronized int remove(double lat, double lng) {
+            count--;
+            sumLat -= lat;
+            sumLng -= lng;
+            return count;
+        }
+
+        synchronized ClusterDTO snapshot() {
+            if (count <= 0) {
+                return null;
+            }
+            ClusterDTO dto = new ClusterDTO();
+            dto.setCount(count);
+            dto.setLat(sumLat / count);
+            dto.setLng(sumLng / count);
+            dto.setSouth(south);
+            dto.setWest(west);
+            dto.setNorth(north);
+            dto.setEast(east);
+            return dto;
+        }
+    }
+}
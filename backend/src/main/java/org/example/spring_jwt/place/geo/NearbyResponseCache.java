@@ -0,0 +1,151 @@
+package org.example.spring_jwt.place.geo;
+
+import org.example.spring_jwt.place.dto.CacheStatsDTO;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 주변 조회 응답 캐시.
+// 요청 좌표를 CELL_DEG 격자 칸의 중심으로 맞춰(quantize) 같은 칸 + 같은 반경이면 같은 응답을 쓴다.
+// 같은 키에 대한 동시 miss 는 DB 조회 한번으로 합친다 (single-flight).
+public class NearbyResponseCache<V> {
+
+    // 약 550m. 응답은 칸 중심 기준으로 계산되므로 실제 요청 위치와 최대 ~400m 차이
+    static final double CELL_DEG = 0.005;
+
+    public interface Loader<V> {
+        V load(double lat, double lng);
+    }
+
+    private record Key(int row, int col, double radiusKm) {
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<Key, V> entries;
+    private final Map<Key, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    // invalidate 될 때마다 증가. 조회 도중 무효화가 있었으면 그 결과는 저장하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public NearbyResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(double lat, double lng, double radiusKm, Loader<V> loader) {
+        Key key = new Key(cell(lat), cell(lng), radiusKm);
+        V cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        misses.increment();
+        try {
+            long startGeneration = generation.get();
+            V value = loader.load(center(key.row()), center(key.col()));
+            store(key, value, startGeneration);
+            mine.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error 도 넘겨 줘야 같은 칸을 기다리는 요청이 영원히 막히지 않는다
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // (lat, lng) 의 데이터가 바뀌었을 때, 그 지점을 응답에 포함할 수 있는 캐시 항목을 모두 지운다
+    public void invalidate(double lat, double lng) {
+        generation.incrementAndGet();
+        // 칸 중심과 실제 요청 위치 차이만큼 여유를 둔다
+        double slackKm = CELL_DEG * GeoUtils.KM_PER_DEGREE_LAT;
+        synchronized (this) {
+            Iterator<Key> it = entries.keySet().iterator();
+            while (it.hasNext()) {
+                Key key = it.next();
+                double distance = GeoUtils.distanceKm(center(key.row()), center(key.col()), lat, lng);
+                if (distance <= key.radiusKm() + slackKm) {
+                    it.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        synchronized (this) {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    public CacheStatsDTO stats() {
+        CacheStatsDTO dto = new CacheStatsDTO();
+        synchronized (this) {
+            dto.setSize(entries.size());
+        }
+        dto.setMaxSize(maxEntries);
+        dto.setHits(hits.sum());
+        dto.setMisses(misses.sum());
+        dto.setCoalesced(coalesced.sum());
+        dto.setEvictions(evictions.sum());
+        dto.setInvalidations(invalidations.sum());
+        return dto;
+    }
+
+    private synchronized V lookup(Key key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(Key key, V value, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return;
+        }
+        entries.put(key, value);
+        while (entries.size() > maxEntries) {
+            Iterator<Key> eldest = entries.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static int cell(double deg) {
+        return (int) Math.floor(deg / CELL_DEG);
+    }
+
+    private static double center(int cell) {
+        return (cell + 0.5) * CELL_DEG;
+    }
+}
@@ -0,0 +1,287 @@
+package org.example.spring_jwt.place.geo;
+
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 충전소 위치를 위경도 격자(grid)로 나눠 메모리에 들고 있는 공간 인덱스.
+// 반경 검색 시 반경을 덮는 격자 칸만 확인하므로 charging_station 전체를 훑지 않는다.
+@Component
+public class StationSpatialIndex {
+
+    // 격자 한 칸의 크기 (degree). 위도 기준 약 2.2km
+    static final double CELL_DEG = 0.02;
+
+    private volatile Grid grid = new Grid();
+    private volatile boolean loaded = false;
+
+    // put/remove 와 교체(swap)를 묶는 lock. 재구성 중에는 들어온 변경을 pending 에 적어 두었다가 새 격자에 다시 반영한다
+    private final Object writeLock = new Object();
+    private List<Consumer<Grid>> pending;
+    // 재구성은 한 번에 하나만 (DB 읽기 동안 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return grid.cellOf.size();
+    }
+
+    public void rebuild(Collection<ChargingDTO> stations) {
+        rebuild(() -> stations);
+    }
+
+    // 테이블 전체로 인덱스를 새로 만든 뒤 한번에 교체.
+    // 읽기 시작 전부터 들어온 put/remove 를 적어 두었다가 교체 직전에 새 격자에 다시 반영하므로 그 사이의 동기화 결과를 잃지 않는다
+    public void rebuild(Supplier<? extends Collection<ChargingDTO>> loader) {
+        rebuildLock.lock();
+        try {
+            synchronized (writeLock) {
+                pending = new ArrayList<>();
+            }
+            try {
+                Grid next = new Grid();
+                for (ChargingDTO station : loader.get()) {
+                    next.put(station);
+                }
+                synchronized (writeLock) {
+                    for (Consumer<Grid> change : pending) {
+                        change.accept(next);
+                    }
+                    grid = next;
+                    loaded = true;
+                }
+            } finally {
+                synchronized (writeLock) {
+                    pending = null;
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 적재(ingestion) 중 새로 저장되거나 바뀐 충전소 반영
+    public void put(ChargingDTO station) {
+        write(next -> next.put(station));
+    }
+
+    public void remove(String statId) {
+        write(next -> next.remove(statId));
+    }
+
+    private void write(Consumer<Grid> change) {
+        synchronized (writeLock) {
+            change.accept(grid);
+            if (pending != null) {
+                pending.add(change);
+            }
+        }
+    }
+
+    public ChargingDTO get(String statId) {
+        Grid current = grid;
+        Long key = current.cellOf.get(statId);
+        if (key == null) {
+            return null;
+        }
+        Map<String, ChargingDTO> cell = current.cells.get(key);
+        return cell == null ? null : cell.get(statId);
+    }
+
+    // (lat, lng) 기준 radiusKm 이내의 충전소를 가까운 순으로 반환
+    public List<ChargingDTO> findWithin(double lat, double lng, double radiusKm) {
+        double dLat = GeoUtils.latDelta(radiusKm);
+        double dLng = GeoUtils.lngDelta(lat, radiusKm);
+        return scan(lat - dLat, lng - dLng, lat + dLat, lng + dLng, lat, lng, radiusKm, Integer.MAX_VALUE);
+    }
+
+    // 지도 화면 영역(south, west, north, east) 안의 충전소를 화면 중심에서 가까운 순으로 limit 개까지 반환
+    public List<ChargingDTO> findInBounds(double south, double west, double north, double east, int limit) {
+        return scan(south, west, north, east, (south + north) / 2, (west + east) / 2, Double.POSITIVE_INFINITY, limit);
+    }
+
+    // (lat, lng) 에서 가까운 순으로 limit 개. afterStatId 가 주어지면 그 충전소 다음부터 (거리, statId 순)
+    // 중심 칸에서 바깥쪽 고리(ring) 순서로 넓혀가며, 남은 고리가 더 가까운 후보를 가질 수 없으면 멈춘다
+    public List<ChargingDTO> findNearest(double lat, double lng, int limit, double maxRadiusKm, String afterStatId) {
+        Grid current = grid;
+        Comparator<Hit> order = Comparator.comparingDouble(Hit::distance)
+                .thenComparing(hit -> hit.station().getStatId());
+
+        Hit cursor = null;
+        double afterDistance = -1;
+        if (afterStatId != null) {
+            ChargingDTO after = get(afterStatId);
+            if (after == null) {
+                throw new IllegalArgumentException("unknown cursor: " + afterStatId);
+            }
+            afterDistance = GeoUtils.distanceKm(lat, lng, after.getLat(), after.getLng());
+            cursor = new Hit(afterDistance, after);
+        }
+
+        // 지금까지 찾은 가장 가까운 limit 개 (가장 먼 것이 맨 앞)
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, order.reversed());
+
+        int centerRow = row(lat);
+        int centerCol = col(lng);
+        double ringKm = CELL_DEG * GeoUtils.KM_PER_DEGREE_LAT;
+        int maxRing = (int) Math.ceil(Math.max(GeoUtils.latDelta(maxRadiusKm), GeoUtils.lngDelta(lat, maxRadiusKm)) / CELL_DEG);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            double unvisitedMinKm = distanceOutside(lat, lng, centerRow, centerCol, ring);
+            if (best.size() == limit && best.peek().distance() <= unvisitedMinKm) {
+                break;
+            }
+            // 고리 안의 모든 점이 cursor 보다 가까우면 통째로 건너뛴다
+            if ((ring + 1) * ringKm * Math.sqrt(2) < afterDistance) {
+                continue;
+            }
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = centerCol - ring; c <= centerCol + ring; c += step) {
+                    Map<String, ChargingDTO> cell = current.cells.get(key(r, c));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (ChargingDTO station : cell.values()) {
+                        double distance = GeoUtils.distanceKm(lat, lng, station.getLat(), station.getLng());
+                        if (distance >= maxRadiusKm) {
+                            continue;
+                        }
+                        Hit hit = new Hit(distance, station);
+                        if (cursor != null && order.compare(hit, cursor) <= 0) {
+                            continue;
+                        }
+                        best.add(hit);
+                        if (best.size() > limit) {
+                            best.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(order);
+        List<ChargingDTO> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            result.add(hit.station());
+        }
+        return result;
+    }
+
+    // 지금까지 확인한 정사각형(고리 0 ~ ring-1) 바깥의 점까지 가능한 최소 거리 = (lat, lng) 에서 정사각형 네 변까지 거리 중 최소.
+    // 중심 칸 안에서도 변 근처를 찍으면 바로 옆 칸의 점이 0km 에 가까울 수 있으므로 칸 수가 아니라 변까지 거리로 잰다.
+    // 경도 방향은 다음 고리까지 중 가장 고위도의 cos 로 줄이고, 위도 1도는 distanceKm 과 같은 반지름으로 환산한다
+    static double distanceOutside(double lat, double lng, int centerRow, int centerCol, int ring) {
+        if (ring == 0) {
+            return 0;
+        }
+        double south = (centerRow - ring + 1) * CELL_DEG - 90.0;
+        double north = (centerRow + ring) * CELL_DEG - 90.0;
+        double west = (centerCol - ring + 1) * CELL_DEG - 180.0;
+        double east = (centerCol + ring) * CELL_DEG - 180.0;
+        double kmPerDegree = Math.toRadians(1) * GeoUtils.EARTH_RADIUS_KM;
+        double cos = Math.cos(Math.toRadians(Math.min(89.9, Math.abs(lat) + (ring + 1) * CELL_DEG)));
+        double latKm = Math.min(lat - south, north - lat) * kmPerDegree;
+        double lngKm = Math.min(lng - west, east - lng) * kmPerDegree * cos;
+        return Math.max(0, Math.min(latKm, lngKm));
+    }
+
+    private List<ChargingDTO> scan(double south, double west, double north, double east,
+                                   double lat, double lng, double radiusKm, int limit) {
+        Grid current = grid;
+        int minRow = row(south);
+        int maxRow = row(north);
+        int minCol = col(west);
+        int maxCol = col(east);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                Map<String, ChargingDTO> cell = current.cells.get(key(r, c));
+                if (cell == null) {
+                    continue;
+                }
+                for (ChargingDTO station : cell.values()) {
+                    if (station.getLat() < south || station.getLat() > north
+                            || station.getLng() < west || station.getLng() > east) {
+                        continue;
+                    }
+                    double distance = GeoUtils.distanceKm(lat, lng, station.getLat(), station.getLng());
+                    if (distance < radiusKm) {
+                        hits.add(new Hit(distance, station));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distance));
+
+        int count = Math.min(limit, hits.size());
+        List<ChargingDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(hits.get(i).station());
+        }
+        return result;
+    }
+
+    static int row(double lat) {
+        return (int) Math.floor((lat + 90.0) / CELL_DEG);
+    }
+
+    static int col(double lng) {
+        return (int) Math.floor((lng + 180.0) / CELL_DEG);
+    }
+
+    static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private record Hit(double distance, ChargingDTO station) {
+    }
+
+    private static final class Grid {
+        private final Map<Long, Map<String, ChargingDTO>> cells = new ConcurrentHashMap<>();
+        private final Map<String, Long> cellOf = new ConcurrentHashMap<>();
+
+        // 좌표가 바뀐 충전소는 이전 칸에서 빼고 새 칸에 넣는다
+        synchronized void put(ChargingDTO station) {
+            long key = key(row(station.getLat()), col(station.getLng()));
+            Long previous = cellOf.put(station.getStatId(), key);
+            if (previous != null && previous != key) {
+                removeFromCell(previous, station.getStatId());
+            }
+            cells.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(station.getStatId(), station);
+        }
+
+        synchronized void remove(String statId) {
+            Long previous = cellOf.remove(statId);
+            if (previous != null) {
+                removeFromCell(previous, statId);
+            }
+        }
+
+        private void removeFromCell(long key, String statId) {
+            Map<String, ChargingDTO> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(statId);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.spring_jwt.place.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 구독자를 화면 영역(viewport)이 걸치는 격자 칸마다 등록해 두고,
+// 좌표 하나가 주어지면 그 칸의 구독자 중 실제 영역 안에 있는 것만 돌려준다
+public class ViewportSubscriptionIndex<T> {
+
+    static final double CELL_DEG = 0.05;
+
+    private final int maxCells;
+    private final Map<Long, Set<T>> cells = new ConcurrentHashMap<>();
+    private final Map<T, Viewport> viewports = new ConcurrentHashMap<>();
+
+    public ViewportSubscriptionIndex(int maxCells) {
+        this.maxCells = maxCells;
+    }
+
+    public record Viewport(double south, double west, double north, double east) {
+        boolean contains(double lat, double lng) {
+            return lat >= south && lat <= north && lng >= west && lng <= east;
+        }
+    }
+
+    // 영역이 너무 넓으면(칸이 maxCells 초과) IllegalArgumentException
+    public void subscribe(T subscriber, double south, double west, double north, double east) {
+        if (south > north || west > east) {
+            throw new IllegalArgumentException("invalid viewport");
+        }
+        long rows = (long) row(north) - row(south) + 1;
+        long cols = (long) col(east) - col(west) + 1;
+        if (rows * cols > maxCells) {
+            throw new IllegalArgumentException("viewport too large");
+        }
+        unsubscribe(subscriber);
+        viewports.put(subscriber, new Viewport(south, west, north, east));
+        for (int r = row(south); r <= row(north); r++) {
+            for (int c = col(west); c <= col(east); c++) {
+                cells.computeIfAbsent(key(r, c), k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            }
+        }
+    }
+
+    public void unsubscribe(T subscriber) {
+        Viewport viewport = viewports.remove(subscriber);
+        if (viewport == null) {
+            return;
+        }
+        for (int r = row(viewport.south()); r <= row(viewport.north()); r++) {
+            for (int c = col(viewport.west()); c <= col(viewport.east()); c++) {
+                cells.computeIfPresent(key(r, c), (k, subscribers) -> {
+                    subscribers.remove(subscriber);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+            }
+        }
+    }
+
+    public List<T> subscribersAt(double lat, double lng) {
+        Set<T> candidates = cells.get(key(row(lat), col(lng)));
+        if (candidates == null) {
+            return List.of();
+        }
+        List<T> result = new ArrayList<>();
+        for (T subscriber : candidates) {
+            Viewport viewport = viewports.get(subscriber);
+            if (viewport != null && viewport.contains(lat, lng)) {
+                result.add(subscriber);
+            }
+        }
+        return result;
+    }
+
+    public List<T> subscribers() {
+        return new ArrayList<>(viewports.keySet());
+    }
+
+    public int size() {
+        return viewports.size();
+    }
+
+    static int row(double lat) {
+        return (int) Math.floor((lat + 90.0) / CELL_DEG);
+    }
+
+    static int col(double lng) {
+        return (int) Math.floor((lng + 180.0) / CELL_DEG);
+    }
+
+    static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.spring_jwt.place.history;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 충전소별 요일 x 시간(168 칸) 점유율. 한 시간 동안 들어온 표본은 평균만 쌓아 두었다가 시간이 바뀌면
+// 그 평균을 칸의 지수이동평균에 한 번 반영한다 (같은 칸은 주에 한 번 갱신, alpha 는 주 단위 가중치).
+// 칸마다 2 byte(0~65534 → 0~1, 65535 는 관측 없음)라 1 byte 반올림처럼 값이 끝에서 멈추지 않고,
+// 충전소 하나가 400 byte 남짓이라 전국 충전소를 다 들고 있어도 수십 MB 안쪽이다.
+// 표본이 들어올 때마다 그 충전소만 갱신하므로 원본 이력을 다시 읽을 일이 없다
+public class OccupancyRollup {
+
+    public static final int HOURS_PER_WEEK = 168;
+    static final int NO_DATA = 0xFFFF;
+    private static final int SCALE = 0xFFFE;
+    private static final int MAGIC = 0x4F524C32; // "ORL2"
+
+    private final double alpha;
+    private final Map<String, Station> stations = new ConcurrentHashMap<>();
+
+    // 칸별 평균 + 아직 반영하지 않은 현재 시간의 표본 합계
+    private static final class Station {
+        final char[] buckets = new char[HOURS_PER_WEEK];
+        int pendingHour = -1;
+        double pendingSum;
+        int pendingCount;
+
+        Station() {
+            Arrays.fill(buckets, (char) NO_DATA);
+        }
+    }
+
+    // alpha: 주마다 새로 반영되는 한 시간 평균의 가중치. 대략 최근 1/alpha 주가 평균에 반영된다
+    public OccupancyRollup(double alpha) {
+        this.alpha = alpha;
+    }
+
+    public void record(String statId, int hourOfWeek, double occupancy) {
+        double clamped = Math.max(0.0, Math.min(1.0, occupancy));
+        stations.compute(statId, (id, station) -> {
+            if (station == null) {
+                station = new Station();
+            }
+            if (station.pendingHour != hourOfWeek) {
+                fold(station);
+                station.pendingHour = hourOfWeek;
+            }
+            station.pendingSum += clamped;
+            station.pendingCount++;
+            return station;
+        });
+    }
+
+    // 지난 시간의 평균을 칸에 반영. 진행 중인 시간은 다음 시간 첫 표본이 들어올 때 반영된다
+    private void fold(Station station) {
+        if (station.pendingCount == 0) {
+            return;
+        }
+        double average = station.pendingSum / station.pendingCount;
+        int current = station.buckets[station.pendingHour];
+        double next = current == NO_DATA ? average : (1 - alpha) * current / SCALE + alpha * average;
+        station.buckets[station.pendingHour] = (char) Math.round(next * SCALE);
+        station.pendingSum = 0;
+        station.pendingCount = 0;
+    }
+
+    // 칸별 점유율 (관측이 없는 칸은 null). 충전소 자체가 없으면 null
+    public Double[] get(String statId) {
+        Station station = stations.get(statId);
+        if (station == null) {
+            return null;
+        }
+        Double[] result = new Double[HOURS_PER_WEEK];
+        // 칸 하나는 char 하나라 갱신 중에 읽어도 깨진 값은 나오지 않는다
+        for (int i = 0; i < HOURS_PER_WEEK; i++) {
+            int value = station.buckets[i];
+            result[i] = value == NO_DATA ? null : (double) value / SCALE;
+        }
+        return result;
+    }
+
+    public void remove(String statId) {
+        stations.remove(statId);
+    }
+
+    public int size() {
+        return stations.size();
+    }
+
+    // 임시 파일에 쓴 뒤 바꿔치기해서 쓰다 죽어도 이전 파일이 남도록. 진행 중인 시간의 표본은 저장하지 않는다
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(stations.size());
+            for (Map.Entry<String, Station> entry : stations.entrySet()) {
+                out.writeUTF(entry.getKey());
+                for (char bucket : entry.getValue().buckets) {
+                    out.writeChar(bucket);
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 기존 내용에 파일 내용을 덮어 읽는다. 읽은 충전소 수
+    public int readFrom(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int magic = in.readInt();
+            if (magic != MAGIC) {
+                throw new IOException("not an occupancy rollup file: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String statId = in.readUTF();
+                Station station = new Station();
+                for (int hour = 0; hour < HOURS_PER_WEEK; hour++) {
+                    station.buckets[hour] = in.readChar();
+                }
+                stations.put(statId, station);
+            }
+            return count;
+        }
+    }
+}
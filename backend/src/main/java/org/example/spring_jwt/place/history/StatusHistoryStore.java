@@ -0,0 +1,322 @@
+package org.example.spring_jwt.place.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 충전기 상태 변화 이력을 파일에 append 만 하는 저장소.
+// - 받은 날짜(day)별 디렉터리로 나누고, 그 안에서 statId 해시로 BUCKETS 개 파일에 나눠 쓴다
+//   (오래된 날은 디렉터리째 지우고, 충전소 하나를 읽을 때는 날짜별 파일 하나만 읽으면 된다)
+// - 파일 안에서 (statId, chgerId) 는 처음 나올 때 한번만 번호를 붙여 정의하고, 이후 기록은
+//   번호 + 직전 기록과의 시각 차이(zigzag varint, 초) + 상태 코드 1 byte 로 보통 4~5 byte 다
+public class StatusHistoryStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusHistoryStore.class);
+
+    static final int BUCKETS = 64;
+    private static final int MAGIC = 0x43534831; // "CSH1"
+    private static final byte DEFINE = 0;
+    private static final byte SAMPLE = 1;
+    private static final DateTimeFormatter PARTITION = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Path directory;
+    private final ZoneId zone;
+    private final Map<Integer, BucketWriter> writers = new HashMap<>();
+    private LocalDate currentDay;
+
+    public StatusHistoryStore(Path directory, ZoneId zone) {
+        this.directory = directory;
+        this.zone = zone;
+    }
+
+    public record Sample(String statId, String chgerId, long epochSecond, byte stat) {
+    }
+
+    // receivedAt 이 속한 날의 파티션에 기록
+    public synchronized void append(List<Sample> samples, Instant receivedAt) {
+        LocalDate day = LocalDate.ofInstant(receivedAt, zone);
+        if (!day.equals(currentDay)) {
+            closeWriters();
+            currentDay = day;
+        }
+        try {
+            List<BucketWriter> touched = new ArrayList<>();
+            for (Sample sample : samples) {
+                int bucket = bucketOf(sample.statId());
+                BucketWriter writer = writers.get(bucket);
+                if (writer == null) {
+                    writer = new BucketWriter(bucketFile(day, bucket));
+                    writers.put(bucket, writer);
+                }
+                writer.write(sample);
+                if (!touched.contains(writer)) {
+                    touched.add(writer);
+                }
+            }
+            for (BucketWriter writer : touched) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // from ~ to 날짜 파티션에서 충전소 하나의 기록 (파티션 순, 파티션 안에서는 쓴 순서)
+    public List<Sample> read(String statId, LocalDate from, LocalDate to) {
+        List<Sample> result = new ArrayList<>();
+        int bucket = bucketOf(statId);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Path file = bucketFile(day, bucket);
+            if (!Files.exists(file)) {
+                continue;
+            }
+            try {
+                scan(ByteBuffer.wrap(Files.readAllBytes(file)), statId, result, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return result;
+    }
+
+    // before 보다 오래된 날짜 파티션 삭제. 지운 파티션 수
+    public int dropBefore(LocalDate before) {
+        int dropped = 0;
+        try (DirectoryStream<Path> partitions = Files.newDirectoryStream(directory)) {
+            for (Path partition : partitions) {
+                LocalDate day = parsePartition(partition.getFileName().toString());
+                if (day == null || !day.isBefore(before)) {
+                    continue;
+                }
+                synchronized (this) {
+                    if (day.equals(currentDay)) {
+                        closeWriters();
+                        currentDay = null;
+                    }
+                }
+                try (Stream<Path> files = Files.walk(partition)) {
+                    for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.delete(file);
+                    }
+                }
+                dropped++;
+            }
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dropped;
+    }
+
+    @Override
+    public synchronized void close() {
+        closeWriters();
+    }
+
+    private void closeWriters() {
+        for (BucketWriter writer : writers.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("상태 이력 파일 닫기 실패: {}", e.getMessage());
+            }
+        }
+        writers.clear();
+    }
+
+    private Path bucketFile(LocalDate day, int bucket) {
+        return directory.resolve(PARTITION.format(day)).resolve(String.format("%02d.bin", bucket));
+    }
+
+    private static LocalDate parsePartition(String name) {
+        try {
+            return LocalDate.parse(name, PARTITION);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    static int bucketOf(String statId) {
+        return Math.floorMod(statId.hashCode(), BUCKETS);
+    }
+
+    // 버퍼를 처음부터 읽어 statId 의 기록을 out 에 담는다 (statId 가 null 이면 전부).
+    // dictionary 가 주어지면 정의된 (statId, chgerId) 번호도 채운다.
+    // 마지막 기록이 중간에 잘렸으면 거기서 멈추고, 온전한 기록이 끝나는 위치와 마지막 시각을 돌려준다
+    private static ScanResult scan(ByteBuffer buffer, String statId, List<Sample> out,
+                                   Map<String, Integer> dictionary) {
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            return new ScanResult(0, 0, 0);
+        }
+        long lastSecond = buffer.getLong();
+        int validEnd = buffer.position();
+        List<String[]> keys = new ArrayList<>();
+        try {
+            while (buffer.hasRemaining()) {
+                byte type = buffer.get();
+                if (type == DEFINE) {
+                    int id = (int) readVarint(buffer);
+                    String station = readString(buffer);
+                    String charger = readString(buffer);
+                    if (id != keys.size()) {
+                        break;
+                    }
+                    keys.add(new String[]{station, charger});
+                    if (dictionary != null) {
+                        dictionary.put(station + "\u001f" + charger, id);
+                    }
+                } else if (type == SAMPLE) {
+                    int id = (int) readVarint(buffer);
+                    long delta = zigzagDecode(readVarint(buffer));
+                    byte stat = buffer.get();
+                    if (id >= keys.size()) {
+                        break;
+                    }
+                    lastSecond += delta;
+                    String[] key = keys.get(id);
+                    if (out != null && (statId == null || statId.equals(key[0]))) {
+                        out.add(new Sample(key[0], key[1], lastSecond, stat));
+                    }
+                } else {
+                    break;
+                }
+                validEnd = buffer.position();
+            }
+        } catch (BufferUnderflowException | IllegalStateException | NegativeArraySizeException e) {
+            // 쓰는 도중이거나 비정상 종료로 잘린(깨진) 마지막 기록
+        }
+        return new ScanResult(validEnd, lastSecond, keys.size());
+    }
+
+    private record ScanResult(int validEnd, long lastSecond, int keyCount) {
+    }
+
+    // 파일 하나에 이어 쓰는 쪽. 재시작하면 기존 파일을 읽어 번호와 마지막 시각을 복원하고,
+    // 잘린 꼬리가 있으면 잘라낸 뒤 이어 쓴다
+    private static final class BucketWriter {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final OutputStream out;
+        private final ByteArrayOutputStream record = new ByteArrayOutputStream(64);
+        private long lastSecond;
+        private int nextId;
+
+        BucketWriter(Path file) throws IOException {
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file)) {
+                ScanResult existing = scan(ByteBuffer.wrap(Files.readAllBytes(file)), null, null, dictionary);
+                if (existing.validEnd() == 0) {
+                    Files.delete(file);
+                } else {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                        channel.truncate(existing.validEnd());
+                    }
+                    lastSecond = existing.lastSecond();
+                    nextId = existing.keyCount();
+                }
+            }
+            boolean fresh = !Files.exists(file);
+            out = new BufferedOutputStream(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND), 8192);
+            if (fresh) {
+                ByteBuffer header = ByteBuffer.allocate(12).putInt(MAGIC).putLong(0);
+                out.write(header.array());
+            }
+        }
+
+        void write(Sample sample) throws IOException {
+            record.reset();
+            String key = sample.statId() + "\u001f" + sample.chgerId();
+            Integer id = dictionary.get(key);
+            if (id == null) {
+                id = nextId++;
+                dictionary.put(key, id);
+                record.write(DEFINE);
+                writeVarint(record, id);
+                writeString(record, sample.statId());
+                writeString(record, sample.chgerId());
+            }
+            record.write(SAMPLE);
+            writeVarint(record, id);
+            writeVarint(record, zigzagEncode(sample.epochSecond() - lastSecond));
+            record.write(sample.stat());
+            lastSecond = sample.epochSecond();
+            // 기록 하나를 통째로 써야 잘려도 앞 기록까지는 읽을 수 있다
+            record.writeTo(out);
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+
+        void close() throws IOException {
+            out.close();
+        }
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("varint too long");
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = (int) readVarint(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long zigzagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long zigzagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
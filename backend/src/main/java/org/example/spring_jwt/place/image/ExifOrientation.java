@@ -0,0 +1,102 @@
+package org.example.spring_jwt.place.image;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+// JPEG EXIF 의 Orientation(0x0112) 태그. 휴대폰 세로 사진은 픽셀은 가로로 저장하고 이 태그로 돌려 보여주므로
+// 축소본을 만들 때 직접 돌려 둔다 (축소본은 메타데이터 없이 저장)
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int APP1 = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ExifOrientation() {
+    }
+
+    // ImageIO JPEG 메타데이터에서 APP1(Exif) 을 찾아 IFD0 의 Orientation 을 읽는다. 없거나 깨졌으면 NORMAL
+    static int read(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return NORMAL;
+        }
+        Node root = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+        for (Node node = root.getLastChild() == null ? null : root.getLastChild().getFirstChild();
+             node != null; node = node.getNextSibling()) {
+            if (node instanceof IIOMetadataNode marker && "unknown".equals(node.getNodeName())
+                    && Integer.toString(APP1).equals(marker.getAttribute("MarkerTag"))
+                    && marker.getUserObject() instanceof byte[] data) {
+                int orientation = parse(data);
+                if (orientation != NORMAL) {
+                    return orientation;
+                }
+            }
+        }
+        return NORMAL;
+    }
+
+    // "Exif\0\0" + TIFF 헤더(II/MM, 42, IFD0 offset) + IFD0 항목(12 byte 씩)
+    static int parse(byte[] app1) {
+        try {
+            for (int i = 0; i < EXIF_HEADER.length; i++) {
+                if (app1[i] != EXIF_HEADER[i]) {
+                    return NORMAL;
+                }
+            }
+            ByteBuffer tiff = ByteBuffer.wrap(app1, EXIF_HEADER.length, app1.length - EXIF_HEADER.length).slice();
+            tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return value >= 1 && value <= 8 ? value : NORMAL;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF 는 무시
+        }
+        return NORMAL;
+    }
+
+    // 2: 좌우 반전, 3: 180도, 4: 상하 반전, 5: 전치, 6: 시계 90도, 7: 반대 전치, 8: 반시계 90도
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> transform.setTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> transform.setTransform(-1, 0, 0, -1, width, height);
+            case 4 -> transform.setTransform(1, 0, 0, -1, 0, height);
+            case 5 -> transform.setTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> transform.setTransform(0, 1, -1, 0, height, 0);
+            case 7 -> transform.setTransform(0, -1, -1, 0, height, width);
+            case 8 -> transform.setTransform(0, -1, 1, 0, 0, width);
+            default -> {
+                return image;
+            }
+        }
+        BufferedImage rotated = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.spring_jwt.place.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+// 이미지 파일을 내용 해시로 이름 붙여 저장 (같은 사진은 한 파일, 파일명이 겹쳐 덮어쓰는 일 없음).
+// 키는 SHA-256 앞 20 byte(hex 40자)이고, 파일은 root/<키 앞 2자>/<키> 에 둔다
+@Component
+public class ImageStorage {
+
+    private static final int KEY_HEX_LENGTH = 40;
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{40}(-[tpf]\\.jpg)?");
+
+    private final Path root;
+
+    public ImageStorage(@Value("${image.storage.dir:${spring.my.path:data/images}}") String root) {
+        this.root = Path.of(root);
+    }
+
+    // created 가 false 면 이미 같은 내용의 파일이 있었던 것
+    public record StoredImage(String key, boolean created, long size) {
+    }
+
+    // 받으면서 해시를 계산해 임시 파일에 쓰고, 다 받으면 키 이름으로 옮긴다
+    public StoredImage store(InputStream in) throws IOException {
+        return store(in, Long.MAX_VALUE);
+    }
+
+    // maxBytes 를 넘으면 받던 것을 지우고 TooLargeException
+    public StoredImage store(InputStream in, long maxBytes) throws IOException {
+        Path tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+        Path temp = Files.createTempFile(tmpDir, "upload", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[64 * 1024];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new TooLargeException(maxBytes);
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            String key = HexFormat.of().formatHex(digest.digest()).substring(0, KEY_HEX_LENGTH);
+            Path target = resolve(key);
+            if (Files.exists(target)) {
+                return new StoredImage(key, false, size);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 사진이 동시에 올라온 경우
+                return new StoredImage(key, false, size);
+            }
+            return new StoredImage(key, true, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 키 형식이 아니면 null (경로 조작 방지)
+    public Path resolve(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return null;
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    public boolean exists(String key) {
+        Path path = resolve(key);
+        return path != null && Files.exists(path);
+    }
+
+    // 헤더만 보고 ImageIO 가 읽을 수 있는 이미지인지 확인
+    public boolean isImage(String key) throws IOException {
+        Path path = resolve(key);
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            return in != null && ImageIO.getImageReaders(in).hasNext();
+        }
+    }
+
+    public void delete(String key) throws IOException {
+        Path path = resolve(key);
+        if (path != null) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    // 축소본 등을 임시 파일에 쓴 뒤 키 이름으로 옮길 때 쓰는 임시 파일
+    Path createTempFile() throws IOException {
+        Path tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+        return Files.createTempFile(tmpDir, "variant", ".part");
+    }
+
+    public static class TooLargeException extends IOException {
+        public TooLargeException(long maxBytes) {
+            super("image is larger than " + maxBytes + " bytes");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
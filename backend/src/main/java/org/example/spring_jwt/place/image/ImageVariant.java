@@ -0,0 +1,25 @@
+package org.example.spring_jwt.place.image;
+
+// 업로드 원본에서 만드는 축소본. 키는 원본 키 + 접미사라 원본이 같으면 축소본도 같은 파일을 쓴다
+public enum ImageVariant {
+    THUMBNAIL("t", 160),
+    POPUP("p", 640),
+    FULL("f", 1600);
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    // 긴 변 기준 최대 픽셀
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String key(String originalKey) {
+        return originalKey + "-" + suffix + ".jpg";
+    }
+}
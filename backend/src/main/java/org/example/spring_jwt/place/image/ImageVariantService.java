@@ -0,0 +1,211 @@
+package org.example.spring_jwt.place.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 원본 이미지에서 ImageVariant 축소본(JPEG)을 요청 스레드 밖에서 만든다.
+// 사진 한 장을 디코딩하면 수십 MB 를 쓰므로 동시에 threads 장까지만 처리하고, 큰 사진은 줄여 가며 읽는다.
+// 축소본이 아직 없으면 이미지 조회는 원본으로 대신한다
+@Service
+public class ImageVariantService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final ImageStorage imageStorage;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(ImageStorage imageStorage,
+                               @Value("${image.variant.threads:2}") int threads,
+                               @Value("${image.variant.queue-capacity:200}") int queueCapacity,
+                               @Value("${image.variant.max-pixels:50000000}") long maxPixels) {
+        this.imageStorage = imageStorage;
+        this.maxPixels = maxPixels;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 이미 다 있거나 처리 중이면 아무것도 하지 않는다
+    public void generateAsync(String originalKey) {
+        if (allVariantsExist(originalKey) || !inFlight.add(originalKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(originalKey);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("이미지 축소본 생성 실패 {}: {}", originalKey, e.getMessage());
+                } finally {
+                    inFlight.remove(originalKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(originalKey);
+            log.warn("이미지 축소본 대기열이 가득 참, 원본으로 제공: {}", originalKey);
+        }
+    }
+
+    // 축소본 생성을 기다리는 이미지 수
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    void generate(String originalKey) throws IOException {
+        Decoded decoded = decode(imageStorage.resolve(originalKey).toFile());
+        BufferedImage source = decoded.image();
+        // 큰 축소본부터 만들고 그걸 다시 줄여 작은 축소본을 만든다. 회전은 가장 큰 축소본에서 한번만
+        for (int i = ImageVariant.values().length - 1; i >= 0; i--) {
+            ImageVariant variant = ImageVariant.values()[i];
+            source = scaleDown(source, variant.getMaxSize());
+            if (i == ImageVariant.values().length - 1) {
+                source = ExifOrientation.apply(source, decoded.orientation());
+            }
+            String key = variant.key(originalKey);
+            if (!imageStorage.exists(key)) {
+                writeJpeg(source, key);
+            }
+        }
+    }
+
+    record Decoded(BufferedImage image, int orientation) {
+    }
+
+    // 업로드 크기 제한은 byte 기준이라 몇 KB 짜리 PNG 도 30000x30000 을 선언할 수 있다.
+    // 디코딩 전에 헤더의 가로x세로만 읽어 maxPixels 를 넘으면 거절하고, 긴 변이 가장 큰 축소본의 1~2배가 되도록
+    // 건너뛰며(subsampling) 읽어서 원본 전체 크기의 픽셀 배열을 만들지 않는다
+    Decoded decode(File file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("image too large: " + width + "x" + height);
+                }
+                int step = Math.max(1, Math.max(width, height) / ImageVariant.FULL.getMaxSize());
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return new Decoded(reader.read(0, param), orientation(reader));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 메타데이터가 깨졌으면 회전 없이
+    private static int orientation(ImageReader reader) {
+        try {
+            return ExifOrientation.read(reader.getImageMetadata(0));
+        } catch (IOException | RuntimeException e) {
+            return ExifOrientation.NORMAL;
+        }
+    }
+
+    private boolean allVariantsExist(String originalKey) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!imageStorage.exists(variant.key(originalKey))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 반씩 줄여 가며 축소 (한번에 크게 줄이면 계단 현상이 생긴다)
+    static BufferedImage scaleDown(BufferedImage image, int maxSize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (current.getType() == BufferedImage.TYPE_INT_RGB
+                    && current.getWidth() == width && current.getHeight() == height) {
+                break;
+            }
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, String key) throws IOException {
+        Path temp = imageStorage.createTempFile();
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Path target = imageStorage.resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
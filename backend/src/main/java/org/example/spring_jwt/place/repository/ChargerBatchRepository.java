@@ -0,0 +1,102 @@
+package org.example.spring_jwt.place.repository;
+
+import org.example.spring_jwt.place.entity.ChargerEntity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 충전기 적재용 JDBC 일괄 upsert. ChargingStationBatchRepository 와 같은 방식으로 바뀐 행만 쓰고,
+// 다른 페이지와 겹쳐 키가 중복되면 그 chunk 를 다시 쓴다
+@Repository
+public class ChargerBatchRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT charger_id, chger_type, output
+            FROM charger
+            WHERE charger_id IN (:ids)
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO charger (charger_id, station_id, chger_id, chger_type, output)
+            VALUES (:chargerId, :stationId, :chgerId, :chgerType, :output)
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE charger
+            SET chger_type = :chgerType, output = :output
+            WHERE charger_id = :chargerId
+            """;
+    private static final String DELETE_BY_STATION_SQL = """
+            DELETE FROM charger WHERE station_id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChargerBatchRepository(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // 새로 쓰거나 바뀐 충전기 수
+    public int upsert(List<ChargerEntity> chargers) {
+        int written = 0;
+        int chunkSize = ChargingStationBatchRepository.CHUNK_SIZE;
+        for (int from = 0; from < chargers.size(); from += chunkSize) {
+            List<ChargerEntity> chunk = chargers.subList(from, Math.min(chargers.size(), from + chunkSize));
+            written += ChargingStationBatchRepository.retryOnDuplicate(transactionTemplate, () -> upsertChunk(chunk));
+        }
+        return written;
+    }
+
+    public void deleteByStationIds(List<String> stationIds) {
+        int chunkSize = ChargingStationBatchRepository.CHUNK_SIZE;
+        for (int from = 0; from < stationIds.size(); from += chunkSize) {
+            List<String> chunk = stationIds.subList(from, Math.min(stationIds.size(), from + chunkSize));
+            jdbcTemplate.update(DELETE_BY_STATION_SQL, new MapSqlParameterSource("ids", chunk));
+        }
+    }
+
+    private int upsertChunk(List<ChargerEntity> chunk) {
+        List<String> ids = chunk.stream().map(ChargerEntity::getChargerId).toList();
+        Map<String, String> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    existing.put(rs.getString("charger_id"),
+                            rs.getString("chger_type") + "/" + rs.getObject("output"));
+                });
+
+        List<MapSqlParameterSource> inserts = new ArrayList<>();
+        List<MapSqlParameterSource> updates = new ArrayList<>();
+        for (ChargerEntity charger : chunk) {
+            String current = existing.get(charger.getChargerId());
+            if (current == null) {
+                inserts.add(params(charger));
+            } else if (!Objects.equals(current, charger.getChgerType() + "/" + charger.getOutput())) {
+                updates.add(params(charger));
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts.toArray(new MapSqlParameterSource[0]));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates.toArray(new MapSqlParameterSource[0]));
+        }
+        return inserts.size() + updates.size();
+    }
+
+    private static MapSqlParameterSource params(ChargerEntity charger) {
+        return new MapSqlParameterSource()
+                .addValue("chargerId", charger.getChargerId())
+                .addValue("stationId", charger.getStationId())
+                .addValue("chgerId", charger.getChgerId())
+                .addValue("chgerType", charger.getChgerType())
+                .addValue("output", charger.getOutput());
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.spring_jwt.place.repository;
+
+import org.example.spring_jwt.place.dto.UpsertResult;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// 공공데이터 충전소 적재용 JDBC 일괄 upsert.
+// chunk 마다 기존 행의 content_hash 를 한번에 읽어 신규/변경/동일을 나누고, 신규와 변경만 JDBC batch 로 쓴다.
+// API 는 충전기 단위라 한 충전소의 충전기가 동시에 쓰는 두 페이지에 걸쳐 나올 수 있고, 그러면 두 페이지가 모두 신규로 보고
+// INSERT 한다. 늦은 쪽은 키 중복으로 롤백되므로 그 chunk 를 다시 읽어(이제 있는 행은 변경/동일) 다시 쓴다.
+// MySQL/PostgreSQL/H2 문법이 다른 DB upsert 대신 이 방식을 쓴다
+@Repository
+public class ChargingStationBatchRepository {
+
+    public static final int CHUNK_SIZE = 1000;
+    // 다른 페이지와 겹친 chunk 를 다시 쓰는 횟수
+    static final int MAX_DUPLICATE_RETRIES = 3;
+
+    private static final String SELECT_SQL = """
+            SELECT station_id, content_hash
+            FROM charging_station
+            WHERE station_id IN (:ids)
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO charging_station (station_id, name, address, latitude, longitude, operator_name, operator_tel,
+                                          zcode, content_hash)
+            VALUES (:stationId, :name, :address, :latitude, :longitude, :operatorName, :operatorTel,
+                    :zcode, :contentHash)
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE charging_station
+            SET name = :name, address = :address, latitude = :latitude, longitude = :longitude,
+                operator_name = :operatorName, operator_tel = :operatorTel,
+                zcode = :zcode, content_hash = :contentHash
+            WHERE station_id = :stationId
+            """;
+    private static final String SELECT_IDS_BY_ZCODE_SQL = """
+            SELECT station_id FROM charging_station WHERE zcode = :zcode
+            """;
+    private static final String DELETE_SQL = """
+            DELETE FROM charging_station WHERE station_id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChargingStationBatchRepository(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public UpsertResult upsert(List<ChargingStationEntity> stations) {
+        UpsertResult result = new UpsertResult();
+        for (int from = 0; from < stations.size(); from += CHUNK_SIZE) {
+            List<ChargingStationEntity> chunk = stations.subList(from, Math.min(stations.size(), from + CHUNK_SIZE));
+            result.merge(retryOnDuplicate(transactionTemplate, () -> upsertChunk(chunk)));
+        }
+        return result;
+    }
+
+    public List<String> findStationIdsByZcode(String zcode) {
+        return jdbcTemplate.queryForList(SELECT_IDS_BY_ZCODE_SQL, new MapSqlParameterSource("zcode", zcode), String.class);
+    }
+
+    public void deleteByIds(List<String> stationIds) {
+        for (int from = 0; from < stationIds.size(); from += CHUNK_SIZE) {
+            List<String> chunk = stationIds.subList(from, Math.min(stationIds.size(), from + CHUNK_SIZE));
+            jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", chunk));
+        }
+    }
+
+    private UpsertResult upsertChunk(List<ChargingStationEntity> chunk) {
+        Map<String, String> existingHashes = findExistingHashes(chunk);
+
+        UpsertResult result = new UpsertResult();
+        List<MapSqlParameterSource> inserts = new ArrayList<>();
+        List<MapSqlParameterSource> updates = new ArrayList<>();
+        for (ChargingStationEntity station : chunk) {
+            if (station.getContentHash() == null) {
+                station.setContentHash(contentHash(station));
+            }
+            if (!existingHashes.containsKey(station.getStationId())) {
+                inserts.add(params(station));
+                result.addInserted(station);
+            } else if (!Objects.equals(existingHashes.get(station.getStationId()), station.getContentHash())) {
+                updates.add(params(station));
+                result.addUpdated(station);
+            } else {
+                result.addUnchanged();
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts.toArray(new MapSqlParameterSource[0]));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates.toArray(new MapSqlParameterSource[0]));
+        }
+        return result;
+    }
+
+    // chunk 하나를 트랜잭션 하나로 쓰고, 다른 트랜잭션이 먼저 넣은 키와 겹치면 처음부터 다시
+    static <T> T retryOnDuplicate(TransactionTemplate transactionTemplate, Supplier<T> chunkWrite) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> chunkWrite.get());
+            } catch (DuplicateKeyException e) {
+                if (attempt > MAX_DUPLICATE_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Map<String, String> findExistingHashes(List<ChargingStationEntity> chunk) {
+        List<String> ids = chunk.stream().map(ChargingStationEntity::getStationId).toList();
+        Map<String, String> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    existing.put(rs.getString("station_id"), rs.getString("content_hash"));
+                });
+        return existing;
+    }
+
+    // 충전소 내용(이름, 주소, 좌표, 운영기관, 지역)의 SHA-256 앞 16 byte
+    public static String contentHash(ChargingStationEntity station) {
+        String content = String.join("\u001f",
+                String.valueOf(station.getName()),
+                String.valueOf(station.getAddress()),
+                Double.toString(station.getLatitude()),
+                Double.toString(station.getLongitude()),
+                String.valueOf(station.getOperatorName()),
+                String.valueOf(station.getOperatorTel()),
+                String.valueOf(station.getZcode()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MapSqlParameterSource params(ChargingStationEntity station) {
+        return new MapSqlParameterSource()
+                .addValue("stationId", station.getStationId())
+                .addValue("name", station.getName())
+                .addValue("address", station.getAddress())
+                .addValue("latitude", station.getLatitude())
+                .addValue("longitude", station.getLongitude())
+                .addValue("operatorName", station.getOperatorName())
+                .addValue("operatorTel", station.getOperatorTel())
+                .addValue("zcode", station.getZcode())
+                .addValue("contentHash", station.getContentHash());
+    }
+}
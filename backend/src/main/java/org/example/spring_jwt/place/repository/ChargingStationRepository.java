@@ -11,21 +11,60 @@ import java.util.List;
 @Repository
 public interface ChargingStationRepository extends JpaRepository<ChargingStationEntity, String> {
 
+    // 조회 메소드는 StationMarkerView projection 으로 지도에 필요한 컬럼만 읽는다 (SELECT 순서 = 필드 순서)
+
+    // 위경도 BETWEEN 조건으로 (latitude, longitude) 인덱스를 먼저 타고, 남은 후보에만 거리 계산
     @Query(value = """
-        SELECT *,
-        (6371 * acos(
-            cos(radians(:lat)) * cos(radians(c.latitude)) * cos(radians(c.longitude) - radians(:lng)) +
-            sin(radians(:lat)) * sin(radians(c.latitude))
-        )) AS distance
+        SELECT c.station_id AS stationId, c.name AS name, c.address AS address, c.latitude AS latitude,
+            c.longitude AS longitude, c.operator_name AS operatorName, c.operator_tel AS operatorTel
         FROM charging_station c  
         WHERE
-            (6371 * acos(
+            c.latitude BETWEEN :minLat AND :maxLat
+            AND c.longitude BETWEEN :minLng AND :maxLng
+            AND (6371 * acos(
                 cos(radians(:lat)) * cos(radians(c.latitude)) * cos(radians(c.longitude) - radians(:lng)) +
                 sin(radians(:lat)) * sin(radians(c.latitude))
             )) < :radius
-        ORDER BY distance
+        ORDER BY (6371 * acos(
+            cos(radians(:lat)) * cos(radians(c.latitude)) * cos(radians(c.longitude) - radians(:lng)) +
+            sin(radians(:lat)) * sin(radians(c.latitude))
+        ))
+        """, nativeQuery = true)
+    List<StationMarkerView> findNearbyCharPlaces(@Param("lat") double lat,
+                                                 @Param("lng") double lng,
+                                                 @Param("radius") double radius,
+                                                 @Param("minLat") double minLat,
+                                                 @Param("maxLat") double maxLat,
+                                                 @Param("minLng") double minLng,
+                                                 @Param("maxLng") double maxLng);
+
+    // 지도 화면 영역 안의 충전소 (화면 중심에서 가까운 순, 최대 limit 개)
+    @Query(value = """
+        SELECT c.station_id AS stationId, c.name AS name, c.address AS address, c.latitude AS latitude,
+            c.longitude AS longitude, c.operator_name AS operatorName, c.operator_tel AS operatorTel
+        FROM charging_station c
+        WHERE
+            c.latitude BETWEEN :south AND :north
+            AND c.longitude BETWEEN :west AND :east
+        ORDER BY (6371 * acos(
+            cos(radians(:lat)) * cos(radians(c.latitude)) * cos(radians(c.longitude) - radians(:lng)) +
+            sin(radians(:lat)) * sin(radians(c.latitude))
+        ))
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<StationMarkerView> findCharPlacesInBounds(@Param("south") double south,
+                                                   @Param("west") double west,
+                                                   @Param("north") double north,
+                                                   @Param("east") double east,
+                                                   @Param("lat") double lat,
+                                                   @Param("lng") double lng,
+                                                   @Param("limit") int limit);
+
+    // 전체 충전소 (공간/클러스터 인덱스 생성용)
+    @Query(value = """
+        SELECT c.station_id AS stationId, c.name AS name, c.address AS address, c.latitude AS latitude,
+            c.longitude AS longitude, c.operator_name AS operatorName, c.operator_tel AS operatorTel
+        FROM charging_station c
         """, nativeQuery = true)
-    List<ChargingStationEntity> findNearbyCharPlaces(@Param("lat") double lat,
-                                                     @Param("lng") double lng,
-                                                     @Param("radius") double radius);
-}
\ No newline at end of file
+    List<StationMarkerView> findAllMarkers();
+}
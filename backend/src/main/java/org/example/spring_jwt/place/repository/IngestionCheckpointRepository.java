@@ -0,0 +1,15 @@
+package org.example.spring_jwt.place.repository;
+
+import org.example.spring_jwt.place.entity.IngestionCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface IngestionCheckpointRepository extends JpaRepository<IngestionCheckpointEntity, String> {
+
+    // 방금 저장한 체크포인트를 이어서 읽으므로 replica 가 아닌 primary 에서
+    @Override
+    @Transactional
+    Optional<IngestionCheckpointEntity> findById(String zcode);
+}
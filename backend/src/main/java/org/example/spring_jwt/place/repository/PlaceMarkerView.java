@@ -0,0 +1,24 @@
+package org.example.spring_jwt.place.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지도에 필요한 장소 컬럼만 읽는 projection (엔티티/사용자 로딩 없이).
+// 인터페이스 projection 은 행마다 proxy 를 만들고 getter 마다 변환을 거쳐 엔티티보다 느리므로,
+// native query 결과를 생성자로 바로 받는 클래스로 둔다. 컬럼은 위치로 넘어오므로 SELECT 순서 = 필드 순서
+@Getter
+@AllArgsConstructor
+public class PlaceMarkerView {
+    private final Integer id;
+    private final String placeTitle;
+    private final Double latitude;
+    private final Double longitude;
+    private final String placeImageURL;
+    private final String thumbnailImageKey;
+    private final Integer perPrice;
+    private final String playTime;
+    private final String charType;
+    private final String maxCar;
+    // place_entity.userid 컬럼 그대로
+    private final Integer userId;
+}
@@ -9,23 +9,141 @@ import java.util.List;
 
 public interface PlaceRepository extends JpaRepository<PlaceEntity, Integer> {
 
+// 조회 메소드는 모두 PlaceMarkerView projection 으로 지도에 필요한 컬럼만 읽는다 (엔티티, 영속성 컨텍스트 없이).
+// 결과는 생성자로 위치 매핑되므로 SELECT 에는 PlaceMarkerView 필드만 같은 순서로 두고 거리는 ORDER BY 에서 계산
+
+// 위경도 BETWEEN 조건으로 (latitude, longitude) 인덱스를 먼저 타고, 남은 후보에만 거리 계산
 @Query(value = """
-    SELECT *, 
-    (6371 * acos(
+    SELECT id AS id, place_title AS placeTitle, latitude AS latitude, longitude AS longitude,
+        place_imageurl AS placeImageURL, thumbnail_image_key AS thumbnailImageKey,
+        per_price AS perPrice, play_time AS playTime, char_type AS charType,
+        max_car AS maxCar, userid AS userId
+    FROM place_entity
+    WHERE 
+        latitude BETWEEN :minLat AND :maxLat
+        AND longitude BETWEEN :minLng AND :maxLng
+        AND (6371 * acos(
+            cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
+            sin(radians(:lat)) * sin(radians(latitude))
+        )) < :radius
+    ORDER BY (6371 * acos(
         cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
         sin(radians(:lat)) * sin(radians(latitude))
-    )) AS distance
+    ))
+    """, nativeQuery = true)
+    List<PlaceMarkerView> findNearbyPlaces(@Param("lat") double lat,
+                                           @Param("lng") double lng,
+                                           @Param("radius") double radius,
+                                           @Param("minLat") double minLat,
+                                           @Param("maxLat") double maxLat,
+                                           @Param("minLng") double minLng,
+                                           @Param("maxLng") double maxLng);
+
+// 지도 화면 영역 안의 장소 (화면 중심에서 가까운 순, 최대 limit 개)
+@Query(value = """
+    SELECT id AS id, place_title AS placeTitle, latitude AS latitude, longitude AS longitude,
+        place_imageurl AS placeImageURL, thumbnail_image_key AS thumbnailImageKey,
+        per_price AS perPrice, play_time AS playTime, char_type AS charType,
+        max_car AS maxCar, userid AS userId
     FROM place_entity
-    WHERE 
+    WHERE
+        latitude BETWEEN :south AND :north
+        AND longitude BETWEEN :west AND :east
+    ORDER BY (6371 * acos(
+        cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
+        sin(radians(:lat)) * sin(radians(latitude))
+    ))
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<PlaceMarkerView> findPlacesInBounds(@Param("south") double south,
+                                             @Param("west") double west,
+                                             @Param("north") double north,
+                                             @Param("east") double east,
+                                             @Param("lat") double lat,
+                                             @Param("lng") double lng,
+                                             @Param("limit") int limit);
+
+// 가까운 순 limit 개 (첫 페이지)
+@Query(value = """
+    SELECT p.id, p.placeTitle, p.latitude, p.longitude, p.placeImageURL, p.thumbnailImageKey,
+        p.perPrice, p.playTime, p.charType, p.maxCar, p.userId
+    FROM (
+        SELECT id AS id, place_title AS placeTitle, latitude AS latitude, longitude AS longitude,
+            place_imageurl AS placeImageURL, thumbnail_image_key AS thumbnailImageKey,
+            per_price AS perPrice, play_time AS playTime, char_type AS charType,
+            max_car AS maxCar, userid AS userId,
         (6371 * acos(
             cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
             sin(radians(:lat)) * sin(radians(latitude))
-        )) < :radius
-    ORDER BY distance
+        )) AS distance
+        FROM place_entity
+        WHERE
+            latitude BETWEEN :minLat AND :maxLat
+            AND longitude BETWEEN :minLng AND :maxLng
+    ) p
+    WHERE p.distance < :radius
+    ORDER BY p.distance, p.id
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<PlaceMarkerView> findNearestPlaces(@Param("lat") double lat,
+                                            @Param("lng") double lng,
+                                            @Param("radius") double radius,
+                                            @Param("minLat") double minLat,
+                                            @Param("maxLat") double maxLat,
+                                            @Param("minLng") double minLng,
+                                            @Param("maxLng") double maxLng,
+                                            @Param("limit") int limit);
+
+// 가까운 순 limit 개 (다음 페이지). cursor 장소의 거리를 같은 식으로 다시 계산해서 (거리, id) 기준 그 다음부터
+@Query(value = """
+    SELECT p.id, p.placeTitle, p.latitude, p.longitude, p.placeImageURL, p.thumbnailImageKey,
+        p.perPrice, p.playTime, p.charType, p.maxCar, p.userId
+    FROM (
+        SELECT id AS id, place_title AS placeTitle, latitude AS latitude, longitude AS longitude,
+            place_imageurl AS placeImageURL, thumbnail_image_key AS thumbnailImageKey,
+            per_price AS perPrice, play_time AS playTime, char_type AS charType,
+            max_car AS maxCar, userid AS userId,
+        (6371 * acos(
+            cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
+            sin(radians(:lat)) * sin(radians(latitude))
+        )) AS distance
+        FROM place_entity
+        WHERE
+            latitude BETWEEN :minLat AND :maxLat
+            AND longitude BETWEEN :minLng AND :maxLng
+    ) p
+    CROSS JOIN (
+        SELECT
+        (6371 * acos(
+            cos(radians(:lat)) * cos(radians(latitude)) * cos(radians(longitude) - radians(:lng)) +
+            sin(radians(:lat)) * sin(radians(latitude))
+        )) AS distance
+        FROM place_entity
+        WHERE id = :afterId
+    ) cur
+    WHERE p.distance < :radius
+        AND (p.distance > cur.distance OR (p.distance = cur.distance AND p.id > :afterId))
+    ORDER BY p.distance, p.id
+    LIMIT :limit
     """, nativeQuery = true)
-    List<PlaceEntity> findNearbyPlaces(@Param("lat") double lat,
-                                       @Param("lng") double lng,
-                                       @Param("radius") double radius);
+    List<PlaceMarkerView> findNearestPlacesAfter(@Param("lat") double lat,
+                                                 @Param("lng") double lng,
+                                                 @Param("radius") double radius,
+                                                 @Param("minLat") double minLat,
+                                                 @Param("maxLat") double maxLat,
+                                                 @Param("minLng") double minLng,
+                                                 @Param("maxLng") double maxLng,
+                                                 @Param("afterId") int afterId,
+                                                 @Param("limit") int limit);
 
+// 전체 장소 (클러스터 인덱스 생성용)
+@Query(value = """
+    SELECT id AS id, place_title AS placeTitle, latitude AS latitude, longitude AS longitude,
+        place_imageurl AS placeImageURL, thumbnail_image_key AS thumbnailImageKey,
+        per_price AS perPrice, play_time AS playTime, char_type AS charType,
+        max_car AS maxCar, userid AS userId
+    FROM place_entity
+    """, nativeQuery = true)
+    List<PlaceMarkerView> findAllMarkers();
 
 }
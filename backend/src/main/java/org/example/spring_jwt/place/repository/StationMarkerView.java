@@ -0,0 +1,17 @@
+package org.example.spring_jwt.place.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지도에 필요한 충전소 컬럼만 읽는 projection (PlaceMarkerView 처럼 생성자로 받는다)
+@Getter
+@AllArgsConstructor
+public class StationMarkerView {
+    private final String stationId;
+    private final String name;
+    private final String address;
+    private final Double latitude;
+    private final Double longitude;
+    private final String operatorName;
+    private final String operatorTel;
+}
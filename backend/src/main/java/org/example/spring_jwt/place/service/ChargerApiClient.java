@@ -0,0 +1,155 @@
+package org.example.spring_jwt.place.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 공공데이터포털 전기차 충전소 API (B552584/EvCharger) 호출.
+// 응답 본문을 문자열/트리로 만들지 않고 StAX 로 <item> 하나씩 읽어 바로 handler 에 넘긴다.
+// 소요 시간은 응답 헤더까지(charging.api.fetch)와 본문 읽기(charging.api.read, handler 처리 포함)로 나눠 잰다.
+// HTTP 는 java.net.http.HttpClient 로 보낸다. HttpURLConnection 과 달리 기다리는 동안 가상 스레드를 carrier 에 묶어두지 않는다.
+// 적재/상태 조회가 겹쳐도 API 로 나가는 동시 요청은 max-concurrent 개까지 (나머지는 차례를 기다린다)
+@Component
+public class ChargerApiClient {
+
+    private final String baseUrl;
+    private final String serviceKey;
+    private final RestTemplate restTemplate;
+    private final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+
+    // base-url 을 바꾸면 로컬 stub 서버로 붙일 수 있다
+    public ChargerApiClient(@Value("${charging.api.base-url:https://apis.data.go.kr/B552584/EvCharger}") String baseUrl,
+                            @Value("${charging.api.service-key:7XHVzTXkVRP6Vh6jOHyYyvRMo9LhW07VUbz1ucZcQuLoPDf33tTIuUqiwcdo4Nss2+FCovzJsGE2aWTQycbIaw==}") String serviceKey,
+                            MeterRegistry meterRegistry,
+                            @Value("${charging.api.max-concurrent:4}") int maxConcurrent,
+                            @Value("${charging.api.read-timeout-ms:60000}") long readTimeoutMillis) {
+        this.baseUrl = baseUrl;
+        this.serviceKey = serviceKey;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrent, true);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        // 응답 헤더가 이 시간 안에 오지 않으면 ResourceAccessException (적재는 재시도)
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restTemplate = new RestTemplate(requestFactory);
+        Gauge.builder("charging.api.in_flight", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .register(meterRegistry);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    // operation (예: getChargerInfo) 한 페이지를 읽어 item 마다 handler 호출. totalCount 를 반환
+    public int fetchItems(String operation, Map<String, String> params, Consumer<Map<String, String>> itemHandler) {
+        // 서비스 키에 '+', '=' 가 있어서 값은 직접 인코딩한다
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + "/" + operation)
+                .queryParam("serviceKey", URLEncoder.encode(serviceKey, StandardCharsets.UTF_8));
+        params.forEach((name, value) -> builder.queryParam(name, URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        URI uri = builder.build(true).toUri();
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("충전소 API 호출 대기 중 중단", e);
+        }
+        try {
+            long start = System.nanoTime();
+            Integer totalCount = restTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                long received = System.nanoTime();
+                timer("charging.api.fetch", operation).record(received - start, TimeUnit.NANOSECONDS);
+                try {
+                    return readItems(response.getBody(), itemHandler);
+                } finally {
+                    timer("charging.api.read", operation).record(System.nanoTime() - received, TimeUnit.NANOSECONDS);
+                }
+            });
+            return totalCount == null ? 0 : totalCount;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public int readItems(InputStream body, Consumer<Map<String, String>> itemHandler) throws IOException {
+        try {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(body);
+            try {
+                return readItems(reader, itemHandler);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("충전소 API 응답 XML 파싱 실패", e);
+        }
+    }
+
+    private int readItems(XMLStreamReader reader, Consumer<Map<String, String>> itemHandler) throws XMLStreamException {
+        int totalCount = 0;
+        String resultCode = null;
+        String resultMsg = null;
+        Map<String, String> item = null;
+
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                if (reader.getEventType() == XMLStreamConstants.END_ELEMENT
+                        && item != null && "item".equals(reader.getLocalName())) {
+                    itemHandler.accept(item);
+                    item = null;
+                }
+                continue;
+            }
+
+            String name = reader.getLocalName();
+            if ("item".equals(name)) {
+                item = new HashMap<>();
+            } else if (item != null) {
+                item.put(name, reader.getElementText().trim());
+            } else if ("totalCount".equals(name)) {
+                totalCount = Integer.parseInt(reader.getElementText().trim());
+            } else if ("resultCode".equals(name)) {
+                resultCode = reader.getElementText().trim();
+            } else if ("resultMsg".equals(name)) {
+                resultMsg = reader.getElementText().trim();
+            }
+        }
+
+        if (resultCode != null && !"00".equals(resultCode)) {
+            throw new IllegalStateException("충전소 API 오류: " + resultMsg + " (" + resultCode + ")");
+        }
+        return totalCount;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.DailyOccupancyDTO;
+import org.example.spring_jwt.place.dto.OccupancyDTO;
+import org.example.spring_jwt.place.history.StatusHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 폴링에서 관측한 충전기 상태 변화를 StatusHistoryStore 에 쌓고, 충전소별 기간 점유율을 계산
+@Service
+public class ChargerHistoryService implements ChargerStatusService.Listener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerHistoryService.class);
+
+    public static final int MAX_DAYS = 30;
+    private static final byte AVAILABLE = 2;
+    private static final byte CHARGING = 3;
+    private static final int SNAPSHOT_BATCH = 10_000;
+
+    private final StatusHistoryStore store;
+    private final ChargerStatusService statusService;
+    private final int retentionDays;
+    private final ZoneId zone = ChargerStatusService.KST;
+    private LocalDate snapshotDay;
+
+    public ChargerHistoryService(@Value("${charging.history.dir:data/status-history}") String directory,
+                                 @Value("${charging.history.retention-days:35}") int retentionDays,
+                                 ChargerStatusService statusService) {
+        this.store = new StatusHistoryStore(Path.of(directory), zone);
+        this.statusService = statusService;
+        this.retentionDays = Math.max(retentionDays, MAX_DAYS + 1);
+    }
+
+    @Override
+    public void statusChanged(List<ChargerStatusService.Change> changes) {
+        Instant now = Instant.now();
+        snapshotIfNewDay(now);
+        List<StatusHistoryStore.Sample> samples = new ArrayList<>(changes.size());
+        for (ChargerStatusService.Change change : changes) {
+            samples.add(toSample(change, now));
+        }
+        store.append(samples, now);
+    }
+
+    // 변화만 쌓으면 며칠째 같은 상태인(오래 비어 있거나 고장 난) 충전기는 조회 기간 안에 기록이 없어 점유율에서 빠지고,
+    // 기간 첫 기록 전의 상태도 알 수 없다. 그래서 날짜 파티션마다 맨 앞에 모든 충전기의 현재 상태를 한번 쓴다.
+    // 자정 직후 스케줄로 쓰고, 그때 서버가 없었으면 그 날 첫 변경이 들어올 때 쓴다
+    @Scheduled(cron = "5 0 0 * * *", zone = "Asia/Seoul")
+    public void writeDailySnapshot() {
+        snapshotIfNewDay(Instant.now());
+    }
+
+    synchronized void snapshotIfNewDay(Instant now) {
+        LocalDate day = LocalDate.ofInstant(now, zone);
+        // 전체 상태를 한번 다 받기 전이면 다음 기회에 (첫 전체 조회는 모든 충전기가 변경으로 들어온다)
+        if (day.equals(snapshotDay) || !statusService.isLoaded()) {
+            return;
+        }
+        List<StatusHistoryStore.Sample> batch = new ArrayList<>(SNAPSHOT_BATCH);
+        int[] written = {0};
+        statusService.forEachCharger(change -> {
+            batch.add(toSample(change, now));
+            if (batch.size() >= SNAPSHOT_BATCH) {
+                store.append(batch, now);
+                written[0] += batch.size();
+                batch.clear();
+            }
+        });
+        store.append(batch, now);
+        written[0] += batch.size();
+        snapshotDay = day;
+        log.info("충전기 상태 이력 {} 스냅샷: {}대", day, written[0]);
+    }
+
+    private static StatusHistoryStore.Sample toSample(ChargerStatusService.Change change, Instant now) {
+        long at = change.updatedAt() == 0 ? now.getEpochSecond() : change.updatedAt();
+        return new StatusHistoryStore.Sample(change.statId(), change.chgerId(), at, change.stat());
+    }
+
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
+    public void dropExpiredPartitions() {
+        int dropped = store.dropBefore(LocalDate.now(zone).minusDays(retentionDays));
+        if (dropped > 0) {
+            log.info("충전기 상태 이력 파티션 {}개 삭제", dropped);
+        }
+    }
+
+    // 오늘을 포함한 최근 days 일
+    public OccupancyDTO getOccupancy(String statId, int days) {
+        LocalDate today = LocalDate.now(zone);
+        LocalDate firstDay = today.minusDays(days - 1L);
+        // 기간 시작 시점의 상태를 알기 위해 하루 앞 파티션(맨 앞의 스냅샷)까지 읽는다
+        List<StatusHistoryStore.Sample> samples = store.read(statId, firstDay.minusDays(1), today);
+        return occupancy(statId, samples, firstDay, days, Instant.now(), zone);
+    }
+
+    // 충전기마다 기록을 시각순으로 이어 구간별 상태를 만들고, 날짜별로 충전중/관측 시간을 더한다.
+    // 충전대기(2)와 충전중(3)만 관측 시간으로 치고, 고장/점검/미확인 구간은 뺀다
+    static OccupancyDTO occupancy(String statId, List<StatusHistoryStore.Sample> samples,
+                                  LocalDate firstDay, int days, Instant end, ZoneId zone) {
+        long[] dayStarts = new long[days + 1];
+        for (int i = 0; i <= days; i++) {
+            dayStarts[i] = firstDay.plusDays(i).atStartOfDay(zone).toEpochSecond();
+        }
+        long windowEnd = Math.min(end.getEpochSecond(), dayStarts[days]);
+        long[] observed = new long[days];
+        long[] charging = new long[days];
+
+        Map<String, List<StatusHistoryStore.Sample>> byCharger = new LinkedHashMap<>();
+        for (StatusHistoryStore.Sample sample : samples) {
+            byCharger.computeIfAbsent(sample.chgerId(), k -> new ArrayList<>()).add(sample);
+        }
+        for (List<StatusHistoryStore.Sample> timeline : byCharger.values()) {
+            timeline.sort(Comparator.comparingLong(StatusHistoryStore.Sample::epochSecond));
+            for (int i = 0; i < timeline.size(); i++) {
+                byte stat = timeline.get(i).stat();
+                if (stat != AVAILABLE && stat != CHARGING) {
+                    continue;
+                }
+                long from = Math.max(timeline.get(i).epochSecond(), dayStarts[0]);
+                long to = i + 1 < timeline.size() ? timeline.get(i + 1).epochSecond() : windowEnd;
+                to = Math.min(to, windowEnd);
+                for (int day = 0; day < days && from < to; day++) {
+                    long overlap = Math.min(to, dayStarts[day + 1]) - Math.max(from, dayStarts[day]);
+                    if (overlap <= 0) {
+                        continue;
+                    }
+                    observed[day] += overlap;
+                    if (stat == CHARGING) {
+                        charging[day] += overlap;
+                    }
+                }
+            }
+        }
+
+        OccupancyDTO dto = new OccupancyDTO();
+        dto.setStatId(statId);
+        dto.setDays(days);
+        dto.setChargerCount(byCharger.size());
+        List<DailyOccupancyDTO> daily = new ArrayList<>(days);
+        long totalObserved = 0;
+        long totalCharging = 0;
+        for (int day = 0; day < days; day++) {
+            DailyOccupancyDTO item = new DailyOccupancyDTO();
+            item.setDate(firstDay.plusDays(day).toString());
+            item.setObservedMinutes(observed[day] / 60);
+            item.setOccupancyRate(rate(charging[day], observed[day]));
+            daily.add(item);
+            totalObserved += observed[day];
+            totalCharging += charging[day];
+        }
+        dto.setDaily(daily);
+        dto.setOccupancyRate(rate(totalCharging, totalObserved));
+        return dto;
+    }
+
+    private static Double rate(long charging, long observed) {
+        return observed == 0 ? null : (double) charging / observed;
+    }
+
+    @Override
+    public void destroy() {
+        store.close();
+    }
+}
@@ -0,0 +1,291 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.ChargerStatusDTO;
+import org.example.spring_jwt.place.dto.StationStatusDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 충전기 실시간 상태를 서버 메모리에 들고 있다가 팝업 요청에 바로 응답.
+// 처음과 하루 한번은 지역별 전체 상태를, 그 사이에는 최근 변경분(period=분)만 주기적으로 받아 반영한다.
+// 변경분 범위는 그 지역을 마지막으로 받은 시점부터 지금까지 + 1분으로 잡아, 폴링 자체가 걸린 시간 동안의
+// 변경도 빠지지 않게 겹쳐 받는다. API 최대 범위(10분)를 넘게 비었으면 그 지역은 전체를 다시 받는다.
+@Service
+public class ChargerStatusService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerStatusService.class);
+
+    // 상태가 바뀐 충전기를 폴링 한번(지역 하나) 단위로 모아서 전달받는 쪽
+    public interface Listener {
+        void statusChanged(List<Change> changes);
+    }
+
+    // stat 은 API 상태 코드, updatedAt 은 초 단위 epoch
+    public record Change(String statId, String chgerId, byte stat, long updatedAt) {
+    }
+
+    // 충전소별 현재 충전대기(2)/충전중(3) 충전기 수
+    public interface StationVisitor {
+        void visit(String statId, int available, int charging);
+    }
+
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter STAT_UPD_DT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Duration FULL_RELOAD_INTERVAL = Duration.ofHours(24);
+    static final int MIN_PERIOD_MINUTES = 5;
+    static final int MAX_PERIOD_MINUTES = 10;
+
+    private final ChargerApiClient chargerApiClient;
+    private final ObjectProvider<Listener> listeners;
+    private final List<String> zcodes;
+    private final boolean enabled;
+    private final int rowsPerPage;
+    private final Map<String, StationStatus> statuses = new ConcurrentHashMap<>();
+    // 지역별로 마지막으로 성공한 조회의 시작 시각
+    private final Map<String, Instant> lastRegionPoll = new ConcurrentHashMap<>();
+    private volatile Instant lastFullLoad;
+
+    public ChargerStatusService(ChargerApiClient chargerApiClient, StationIngestionService ingestionService,
+                                ObjectProvider<Listener> listeners,
+                                @Value("${charging.status.enabled:true}") boolean enabled,
+                                @Value("${charging.ingest.rows-per-page:9999}") int rowsPerPage) {
+        this.chargerApiClient = chargerApiClient;
+        this.listeners = listeners;
+        this.zcodes = ingestionService.getZcodes();
+        this.enabled = enabled;
+        this.rowsPerPage = rowsPerPage;
+    }
+
+    // 끝난 시점이 아니라 시작 시점 기준 주기 (조회가 길어지면 끝나자마자 다음 조회)
+    @Scheduled(initialDelayString = "${charging.status.initial-delay-ms:10000}",
+            fixedRateString = "${charging.status.interval-ms:300000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        boolean full = lastFullLoad == null || lastFullLoad.plus(FULL_RELOAD_INTERVAL).isBefore(Instant.now());
+        Instant startedAt = Instant.now();
+        boolean allSucceeded = true;
+        for (String zcode : zcodes) {
+            Instant regionStartedAt = Instant.now();
+            Integer period = full ? null : periodMinutes(lastRegionPoll.get(zcode), regionStartedAt);
+            try {
+                pollRegion(zcode, period);
+                lastRegionPoll.put(zcode, regionStartedAt);
+            } catch (RuntimeException e) {
+                allSucceeded = false;
+                log.warn("zcode {} 충전기 상태 조회 실패: {}", zcode, e.getMessage());
+            }
+        }
+        if (full && allSucceeded) {
+            lastFullLoad = startedAt;
+        }
+    }
+
+    // 마지막으로 받은 시점(last)부터 지금까지를 덮는 변경분 범위(분). 처음이거나 API 최대 범위보다 오래 비었으면 null(전체)
+    static Integer periodMinutes(Instant last, Instant now) {
+        if (last == null) {
+            return null;
+        }
+        long minutes = (Duration.between(last, now).toSeconds() + 59) / 60 + 1;
+        if (minutes > MAX_PERIOD_MINUTES) {
+            return null;
+        }
+        return (int) Math.max(MIN_PERIOD_MINUTES, minutes);
+    }
+
+    // period 가 null 이면 전체 상태
+    private void pollRegion(String zcode, Integer period) {
+        int pageNo = 1;
+        int totalCount = Integer.MAX_VALUE;
+        while ((pageNo - 1) * rowsPerPage < totalCount) {
+            Map<String, String> params = new LinkedHashMap<>();
+            params.put("numOfRows", String.valueOf(rowsPerPage));
+            params.put("pageNo", String.valueOf(pageNo));
+            params.put("zcode", zcode);
+            if (period != null) {
+                params.put("period", String.valueOf(period));
+            }
+            int[] items = {0};
+            List<Change> changes = new ArrayList<>();
+            totalCount = chargerApiClient.fetchItems("getChargerStatus", params, item -> {
+                items[0]++;
+                Change change = update(item.get("statId"), item.get("chgerId"), item.get("stat"), item.get("statUpdDt"));
+                if (change != null) {
+                    changes.add(change);
+                }
+            });
+            publish(changes);
+            if (items[0] == 0) {
+                break;
+            }
+            pageNo++;
+        }
+    }
+
+    private void publish(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Change> view = List.copyOf(changes);
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.statusChanged(view);
+            } catch (RuntimeException e) {
+                log.warn("충전기 상태 변경 전달 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 충전기 하나의 상태 반영. 더 오래된 정보이거나 같은 상태면 null
+    public Change update(String statId, String chgerId, String stat, String statUpdDt) {
+        if (statId == null || chgerId == null || stat == null || stat.isEmpty()) {
+            return null;
+        }
+        byte code = parseStat(stat);
+        long updatedAt = parseStatUpdDt(statUpdDt);
+        boolean[] changed = {false};
+        statuses.compute(statId, (id, current) -> {
+            StationStatus base = current == null ? StationStatus.EMPTY : current;
+            StationStatus next = base.with(chgerId, code, updatedAt);
+            changed[0] = next != base;
+            return next;
+        });
+        return changed[0] ? new Change(statId, chgerId, code, updatedAt) : null;
+    }
+
+    public StationStatusDTO getStationStatus(String statId) {
+        StationStatusDTO dto = new StationStatusDTO();
+        dto.setStatId(statId);
+        StationStatus status = statuses.get(statId);
+        List<ChargerStatusDTO> chargers = new ArrayList<>();
+        if (status != null) {
+            for (int i = 0; i < status.chargerIds.length; i++) {
+                ChargerStatusDTO charger = new ChargerStatusDTO();
+                charger.setStatId(statId);
+                charger.setChgerId(status.chargerIds[i]);
+                charger.setStat(String.valueOf(status.stats[i]));
+                charger.setStatUpdDt(formatStatUpdDt(status.updatedAt[i]));
+                chargers.add(charger);
+            }
+        }
+        dto.setChargers(chargers);
+        return dto;
+    }
+
+    // 전체 상태를 한번이라도 다 받았는지
+    public boolean isLoaded() {
+        return lastFullLoad != null;
+    }
+
+    public void forEachStation(StationVisitor visitor) {
+        statuses.forEach((statId, status) -> {
+            int available = 0;
+            int charging = 0;
+            for (byte stat : status.stats) {
+                if (stat == 2) {
+                    available++;
+                } else if (stat == 3) {
+                    charging++;
+                }
+            }
+            visitor.visit(statId, available, charging);
+        });
+    }
+
+    // 모든 충전기의 현재 상태 (이력의 일별 스냅샷용)
+    public void forEachCharger(Consumer<Change> visitor) {
+        statuses.forEach((statId, status) -> {
+            for (int i = 0; i < status.chargerIds.length; i++) {
+                visitor.accept(new Change(statId, status.chargerIds[i], status.stats[i], status.updatedAt[i]));
+            }
+        });
+    }
+
+    public int getStationCount() {
+        return statuses.size();
+    }
+
+    static byte parseStat(String stat) {
+        try {
+            return Byte.parseByte(stat);
+        } catch (NumberFormatException e) {
+            return 9;
+        }
+    }
+
+    // 초 단위 epoch. 값이 없으면 0
+    static long parseStatUpdDt(String statUpdDt) {
+        if (statUpdDt == null || statUpdDt.isEmpty()) {
+            return 0;
+        }
+        try {
+            return LocalDateTime.parse(statUpdDt, STAT_UPD_DT).atZone(KST).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    static String formatStatUpdDt(long epochSecond) {
+        if (epochSecond == 0) {
+            return "";
+        }
+        return STAT_UPD_DT.format(Instant.ofEpochSecond(epochSecond).atZone(KST));
+    }
+
+    // 충전소 하나의 충전기별 상태. 바뀔 때마다 새 객체로 교체(copy-on-write)하므로 읽을 때 lock 이 필요 없다
+    static final class StationStatus {
+        static final StationStatus EMPTY = new StationStatus(new String[0], new byte[0], new long[0]);
+
+        final String[] chargerIds;
+        final byte[] stats;
+        final long[] updatedAt;
+
+        private StationStatus(String[] chargerIds, byte[] stats, long[] updatedAt) {
+            this.chargerIds = chargerIds;
+            this.stats = stats;
+            this.updatedAt = updatedAt;
+        }
+
+        // 상태가 그대로면(시각만 늦어졌어도) this 를 그대로 돌려준다. 상태가 바뀐 시각을 유지한다
+        StationStatus with(String chgerId, byte stat, long at) {
+            for (int i = 0; i < chargerIds.length; i++) {
+                if (chargerIds[i].equals(chgerId)) {
+                    if (at < updatedAt[i] || stats[i] == stat) {
+                        return this;
+                    }
+                    byte[] nextStats = stats.clone();
+                    long[] nextUpdatedAt = updatedAt.clone();
+                    nextStats[i] = stat;
+                    nextUpdatedAt[i] = at;
+                    return new StationStatus(chargerIds, nextStats, nextUpdatedAt);
+                }
+            }
+            int n = chargerIds.length;
+            String[] nextIds = Arrays.copyOf(chargerIds, n + 1);
+            byte[] nextStats = Arrays.copyOf(stats, n + 1);
+            long[] nextUpdatedAt = Arrays.copyOf(updatedAt, n + 1);
+            nextIds[n] = chgerId;
+            nextStats[n] = stat;
+            nextUpdatedAt[n] = at;
+            return new StationStatus(nextIds, nextStats, nextUpdatedAt);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.ChargerStatusDTO;
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.example.spring_jwt.place.geo.StationSpatialIndex;
+import org.example.spring_jwt.place.geo.ViewportSubscriptionIndex;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 화면 영역을 구독한 클라이언트에게 그 안의 충전기 상태 변경분만 SSE 로 밀어준다.
+// 구독은 격자 칸으로 색인해 두고, 변경이 오면 충전소 좌표의 칸에 걸린 구독자에게만 보낸다.
+@Service
+public class ChargerStatusStreamService implements ChargerStatusService.Listener, DisposableBean {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    // 보내지 못하고 쌓인 묶음이 이만큼이면 느린 클라이언트로 보고 끊는다
+    private static final int MAX_PENDING_BATCHES = 64;
+
+    private final StationSpatialIndex stationIndex;
+    private final ViewportSubscriptionIndex<Subscription> subscriptions;
+    // 전송은 폴링 스레드와 분리된 가상 스레드에서
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChargerStatusStreamService(StationSpatialIndex stationIndex,
+                                      @Value("${charging.status.stream.max-cells:400}") int maxCells) {
+        this.stationIndex = stationIndex;
+        this.subscriptions = new ViewportSubscriptionIndex<>(maxCells);
+    }
+
+    // 영역이 너무 넓거나 잘못되면 IllegalArgumentException
+    public SseEmitter subscribe(double south, double west, double north, double east) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscription subscription = new Subscription(emitter);
+        subscriptions.subscribe(subscription, south, west, north, east);
+        emitter.onCompletion(() -> subscriptions.unsubscribe(subscription));
+        emitter.onTimeout(() -> subscriptions.unsubscribe(subscription));
+        emitter.onError(e -> subscriptions.unsubscribe(subscription));
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void statusChanged(List<ChargerStatusService.Change> changes) {
+        if (subscriptions.size() == 0) {
+            return;
+        }
+        Map<Subscription, List<ChargerStatusDTO>> batches = new HashMap<>();
+        for (ChargerStatusService.Change change : changes) {
+            ChargingDTO station = stationIndex.get(change.statId());
+            if (station == null) {
+                continue;
+            }
+            List<Subscription> targets = subscriptions.subscribersAt(station.getLat(), station.getLng());
+            if (targets.isEmpty()) {
+                continue;
+            }
+            ChargerStatusDTO delta = toDTO(change);
+            for (Subscription target : targets) {
+                batches.computeIfAbsent(target, k -> new ArrayList<>()).add(delta);
+            }
+        }
+        batches.forEach(Subscription::enqueue);
+    }
+
+    // 프록시나 브라우저가 놀고 있는 연결을 끊지 않도록, 그리고 끊긴 연결을 정리하도록
+    @Scheduled(fixedRateString = "${charging.status.stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions.subscribers()) {
+            sender.execute(() -> subscription.send(SseEmitter.event().comment("ping")));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscription subscription : subscriptions.subscribers()) {
+            subscription.emitter.complete();
+        }
+        sender.shutdownNow();
+    }
+
+    private static ChargerStatusDTO toDTO(ChargerStatusService.Change change) {
+        ChargerStatusDTO dto = new ChargerStatusDTO();
+        dto.setStatId(change.statId());
+        dto.setChgerId(change.chgerId());
+        dto.setStat(String.valueOf(change.stat()));
+        dto.setStatUpdDt(ChargerStatusService.formatStatUpdDt(change.updatedAt()));
+        return dto;
+    }
+
+    // 연결 하나. 묶음은 순서대로 하나씩만 보낸다
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Queue<List<ChargerStatusDTO>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void enqueue(List<ChargerStatusDTO> batch) {
+            if (pendingCount.incrementAndGet() > MAX_PENDING_BATCHES) {
+                close();
+                return;
+            }
+            pending.add(batch);
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                List<ChargerStatusDTO> batch;
+                while ((batch = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    if (!send(SseEmitter.event().name("status").data(batch))) {
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return false;
+            }
+        }
+
+        private void close() {
+            subscriptions.unsubscribe(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -1,115 +1,173 @@
 package org.example.spring_jwt.place.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.example.spring_jwt.place.dto.CacheStatsDTO;
 import org.example.spring_jwt.place.dto.ChargingDTO;
 import org.example.spring_jwt.place.dto.LoadCharPlaceDTO;
 import org.example.spring_jwt.place.dto.LoadPlaceDTO;
 import org.example.spring_jwt.place.dto.PlaceDTO;
 import org.example.spring_jwt.place.entity.ChargingStationEntity;
 import org.example.spring_jwt.place.entity.PlaceEntity;
+import org.example.spring_jwt.place.geo.GeoUtils;
+import org.example.spring_jwt.place.geo.NearbyResponseCache;
+import org.example.spring_jwt.place.geo.StationSpatialIndex;
 import org.example.spring_jwt.place.repository.ChargingStationRepository;
+import org.example.spring_jwt.place.repository.StationMarkerView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URL;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-public class ChargingService {
+public class ChargingService implements StationIngestionService.Listener {
+    private static final int NEARBY_CACHE_SIZE = 1000;
 
     private final ChargingStationRepository stationRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final XmlMapper xmlMapper = new XmlMapper();
-    private final String SERVICE_KEY = "7XHVzTXkVRP6Vh6jOHyYyvRMo9LhW07VUbz1ucZcQuLoPDf33tTIuUqiwcdo4Nss2+FCovzJsGE2aWTQycbIaw==";
+    private final StationSpatialIndex stationIndex;
+    private final ClusterService clusterService;
+    private final OccupancyRollupService occupancyRollupService;
+    private final QueryMetrics queryMetrics;
+    private final NearbyResponseCache<LoadCharPlaceDTO> nearbyCache = new NearbyResponseCache<>(NEARBY_CACHE_SIZE);
 
 
 
 
-    @PostConstruct
-    public void init() {
-        fetchAndInsertData("11"); // 서울
-        fetchAndInsertData("41"); // 경기도
+    // 서버 기동은 기존 DB 데이터로 바로 끝내고, 공간 인덱스는 뒤에서 만든다 (그 전까지는 DB 조회)
+    // 공공데이터 적재/동기화는 StationSyncService 가 주기적으로 수행
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        Thread.ofVirtual().name("station-index-loader").start(this::rebuildIndex);
     }
-// 서버 구동 시킬때 디비에 공공 충전소 적재하는 것임 . 가끔 주석 풀고 돌리기
-//
-
 
+    public void rebuildIndex() {
+        stationIndex.rebuild(() -> queryMetrics.record("station", "all", stationRepository::findAllMarkers).stream()
+                .map(this::convertCharToDTO).toList());
+        nearbyCache.clear();
+    }
 
-    private void fetchAndInsertData(String zcode) {
-        try {
-            int pageNo = 1;
-            int totalCount = Integer.MAX_VALUE;
-            int rowsPerPage = 9999;
+    public int getIndexedStationCount() {
+        return stationIndex.size();
+    }
 
-            while ((pageNo - 1) * rowsPerPage < totalCount) {
-                StringBuilder urlBuilder = new StringBuilder("https://apis.data.go.kr/B552584/EvCharger/getChargerInfo");
-                urlBuilder.append("?" + URLEncoder.encode("serviceKey", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(SERVICE_KEY, StandardCharsets.UTF_8));
-                urlBuilder.append("&" + URLEncoder.encode("numOfRows", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(String.valueOf(rowsPerPage), StandardCharsets.UTF_8));
-                urlBuilder.append("&" + URLEncoder.encode("pageNo", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(String.valueOf(pageNo), StandardCharsets.UTF_8));
-                urlBuilder.append("&" + URLEncoder.encode("zcode", StandardCharsets.UTF_8) + "=" + URLEncoder.encode(zcode, StandardCharsets.UTF_8));
+    // 새로 들어오거나 바뀐 충전소를 인덱스/클러스터/캐시에 반영
+    @Override
+    public void stationsChanged(List<ChargingStationEntity> entities) {
+        for (ChargingStationEntity entity : entities) {
+            stationIndex.put(convertCharToDTO(entity));
+            clusterService.stationUpdated(entity.getStationId(), entity.getLatitude(), entity.getLongitude());
+            nearbyCache.invalidate(entity.getLatitude(), entity.getLongitude());
+        }
+    }
 
-                URL url = new URL(urlBuilder.toString());
-                String response = restTemplate.getForObject(url.toURI(), String.class);
-                System.out.println("API 응답:\n" + response);
+    // 동기화에서 만료된 충전소 제거
+    @Override
+    public void stationsRemoved(List<String> stationIds) {
+        for (String statId : stationIds) {
+            ChargingDTO station = stationIndex.get(statId);
+            stationIndex.remove(statId);
+            clusterService.stationRemoved(statId);
+            if (station != null) {
+                nearbyCache.invalidate(station.getLat(), station.getLng());
+            } else {
+                nearbyCache.clear();
+            }
+        }
+        occupancyRollupService.stationsRemoved(stationIds);
+    }
 
-                JsonNode root = xmlMapper.readTree(response);
+    public LoadCharPlaceDTO findCharNearbyLocations(double lat, double lng) {
+        double radius = 30.0; // km 단위
+        return nearbyCache.get(lat, lng, radius, (cellLat, cellLng) -> loadCharNearbyLocations(cellLat, cellLng, radius));
+    }
 
-                totalCount = root.path("body").path("totalCount").asInt();
-                System.out.println("totalCount = " + totalCount);
+    public CacheStatsDTO getNearbyCacheStats() {
+        return nearbyCache.stats();
+    }
 
-                JsonNode items = root.path("body").path("items").path("item");
-                if (items.isMissingNode() || items.size() == 0) {
-                    break;
-                }
+    private LoadCharPlaceDTO loadCharNearbyLocations(double lat, double lng, double radius) {
+        List<ChargingDTO> dtos;
+        if (stationIndex.isLoaded()) {
+            dtos = stationIndex.findWithin(lat, lng, radius);
+        } else {
+            // 인덱스가 아직 만들어지기 전에는 DB 에서 직접 조회
+            double dLat = GeoUtils.latDelta(radius);
+            double dLng = GeoUtils.lngDelta(lat, radius);
+            dtos = queryMetrics.record("station", "nearby", () -> stationRepository.findNearbyCharPlaces(
+                    lat, lng, radius, lat - dLat, lat + dLat, lng - dLng, lng + dLng))
+                    .stream().map(this::convertCharToDTO).toList();
+        }
 
-                for (JsonNode item : items) {
-                    String statId = item.get("statId").asText();
-                    if (!stationRepository.existsById(statId)) {
-                        ChargingStationEntity entity = new ChargingStationEntity();
-                        entity.setStationId(statId);
-                        entity.setName(item.get("statNm").asText());
-                        entity.setAddress(item.get("addr").asText());
-                        entity.setLatitude(item.get("lat").asDouble());
-                        entity.setLongitude(item.get("lng").asDouble());
-                        entity.setOperatorName(item.get("busiNm").asText());
-                        entity.setOperatorTel(item.get("busiCall").asText());
-
-                        stationRepository.save(entity);
-                    }
-                }
+        LoadCharPlaceDTO response = new LoadCharPlaceDTO();
+        response.setPoi(dtos);
+        return response;
+    }
 
-                pageNo++;
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+    // 지도 화면 영역 안의 충전소 조회 (화면 중심에서 가까운 순 limit 개까지)
+    public LoadCharPlaceDTO findCharLocationsInBounds(double south, double west, double north, double east, int limit) {
+        List<ChargingDTO> dtos;
+        if (stationIndex.isLoaded()) {
+            dtos = stationIndex.findInBounds(south, west, north, east, limit);
+        } else {
+            dtos = queryMetrics.record("station", "bounds", () -> stationRepository.findCharPlacesInBounds(
+                    south, west, north, east, (south + north) / 2, (west + east) / 2, limit))
+                    .stream().map(this::convertCharToDTO).toList();
         }
+
+        LoadCharPlaceDTO response = new LoadCharPlaceDTO();
+        response.setPoi(dtos);
+        return response;
     }
 
-    public LoadCharPlaceDTO findCharNearbyLocations(double lat, double lng) {
+    // 가까운 순 limit 개. cursor 는 이전 페이지 마지막 충전소의 statId
+    public LoadCharPlaceDTO findCharNearestLocations(double lat, double lng, int limit, String cursor) {
         double radius = 30.0; // km 단위
 
-        List<ChargingStationEntity> entities = stationRepository.findNearbyCharPlaces(lat, lng, radius);
-
-        List<ChargingDTO> dtos = entities.stream().map(this::convertCharToDTO).toList();
-        System.out.println("entities =");
-        if (!entities.isEmpty()) {
-            System.out.println(entities.get(0).getStationId());
+        List<ChargingDTO> dtos;
+        if (stationIndex.isLoaded()) {
+            dtos = stationIndex.findNearest(lat, lng, limit, radius, cursor);
         } else {
-            System.out.println("No places found.");
+            // 인덱스가 만들어지기 전에는 반경 조회 결과를 잘라서 사용
+            List<ChargingDTO> all = loadCharNearbyLocations(lat, lng, radius).getPoi();
+            int from = 0;
+            if (cursor != null) {
+                from = -1;
+                for (int i = 0; i < all.size(); i++) {
+                    if (all.get(i).getStatId().equals(cursor)) {
+                        from = i + 1;
+                        break;
+                    }
+                }
+                if (from < 0) {
+                    throw new IllegalArgumentException("unknown cursor: " + cursor);
+                }
+            }
+            dtos = all.subList(from, Math.min(all.size(), from + limit));
         }
 
         LoadCharPlaceDTO response = new LoadCharPlaceDTO();
         response.setPoi(dtos);
+        if (dtos.size() == limit) {
+            response.setNextCursor(dtos.get(dtos.size() - 1).getStatId());
+        }
         return response;
     }
 
-    private ChargingDTO convertCharToDTO(ChargingStationEntity entity) {
+    // 아래 두 변환은 JMH 벤치마크(DtoMappingBenchmark)에서도 호출하므로 package-private
+    ChargingDTO convertCharToDTO(StationMarkerView view) {
+        ChargingDTO dto = new ChargingDTO();
+        dto.setStatId(view.getStationId());
+        dto.setStatNm(view.getName());
+        dto.setLat(view.getLatitude());
+        dto.setLng(view.getLongitude());
+        dto.setAddress(view.getAddress());
+        dto.setBusiNm(view.getOperatorName());
+        dto.setBusiCall(view.getOperatorTel());
+        return dto;
+    }
+
+    ChargingDTO convertCharToDTO(ChargingStationEntity entity) {
         ChargingDTO dto = new ChargingDTO();
         dto.setStatId(entity.getStationId());
         dto.setStatNm(entity.getName());
@@ -0,0 +1,74 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.ClusterDTO;
+import org.example.spring_jwt.place.entity.PlaceEntity;
+import org.example.spring_jwt.place.geo.MarkerClusterIndex;
+import org.example.spring_jwt.place.repository.ChargingStationRepository;
+import org.example.spring_jwt.place.repository.PlaceMarkerView;
+import org.example.spring_jwt.place.repository.PlaceRepository;
+import org.example.spring_jwt.place.repository.StationMarkerView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 충전소/장소 마커를 줌 레벨별 클러스터로 미리 묶어 두는 서비스
+@Service
+public class ClusterService {
+
+    // 이 줌 이상에서는 클러스터 대신 개별 마커를 내려준다
+    public static final int INDIVIDUAL_ZOOM = MarkerClusterIndex.MAX_ZOOM + 1;
+
+    private final ChargingStationRepository stationRepository;
+    private final PlaceRepository placeRepository;
+    private final MarkerClusterIndex stationClusters = new MarkerClusterIndex();
+    private final MarkerClusterIndex placeClusters = new MarkerClusterIndex();
+
+    public ClusterService(ChargingStationRepository stationRepository, PlaceRepository placeRepository) {
+        this.stationRepository = stationRepository;
+        this.placeRepository = placeRepository;
+    }
+
+    // 서버가 뜬 뒤 테이블 전체로 한번 생성 (기동을 막지 않도록 별도 스레드), 이후에는 변경분만 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("cluster-index-loader").start(this::rebuild);
+    }
+
+    public void rebuild() {
+        stationClusters.clear();
+        for (StationMarkerView station : stationRepository.findAllMarkers()) {
+            stationClusters.put(station.getStationId(), station.getLatitude(), station.getLongitude());
+        }
+        placeClusters.clear();
+        for (PlaceMarkerView place : placeRepository.findAllMarkers()) {
+            if (place.getLatitude() != null && place.getLongitude() != null) {
+                placeClusters.put(String.valueOf(place.getId()), place.getLatitude(), place.getLongitude());
+            }
+        }
+    }
+
+    public void stationUpdated(String statId, double lat, double lng) {
+        stationClusters.put(statId, lat, lng);
+    }
+
+    public void stationRemoved(String statId) {
+        stationClusters.remove(statId);
+    }
+
+    public void placeUpdated(PlaceEntity place) {
+        if (place.getLatitude() == null || place.getLongitude() == null) {
+            return;
+        }
+        placeClusters.put(String.valueOf(place.getId()), place.getLatitude(), place.getLongitude());
+    }
+
+    public List<ClusterDTO> findStationClusters(int zoom, double south, double west, double north, double east) {
+        return stationClusters.query(zoom, south, west, north, east);
+    }
+
+    public List<ClusterDTO> findPlaceClusters(int zoom, double south, double west, double north, double east) {
+        return placeClusters.query(zoom, south, west, north, east);
+    }
+}
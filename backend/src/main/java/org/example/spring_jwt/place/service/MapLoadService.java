@@ -0,0 +1,91 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.example.spring_jwt.place.dto.LoadAllPlaceDTO;
+import org.example.spring_jwt.place.dto.PlaceDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 장소(DB)와 충전소(메모리 인덱스, 적재 전이면 DB) 조회를 가상 스레드 두 개로 동시에 돌려 한 응답으로 합친다.
+// 응답 시간은 둘의 합이 아니라 느린 쪽 하나
+@Service
+public class MapLoadService {
+
+    private final PlaceService placeService;
+    private final ChargingService chargingService;
+
+    public MapLoadService(PlaceService placeService, ChargingService chargingService) {
+        this.placeService = placeService;
+        this.chargingService = chargingService;
+    }
+
+    public LoadAllPlaceDTO loadNearby(double lat, double lng) {
+        Both<List<PlaceDTO>, List<ChargingDTO>> result = both(
+                () -> placeService.findNearbyLocations(lat, lng).getPoi(),
+                () -> chargingService.findCharNearbyLocations(lat, lng).getPoi());
+        return toDTO(result);
+    }
+
+    public LoadAllPlaceDTO loadInBounds(double south, double west, double north, double east, int limit) {
+        Both<List<PlaceDTO>, List<ChargingDTO>> result = both(
+                () -> placeService.findLocationsInBounds(south, west, north, east, limit).getPoi(),
+                () -> chargingService.findCharLocationsInBounds(south, west, north, east, limit).getPoi());
+        return toDTO(result);
+    }
+
+    private static LoadAllPlaceDTO toDTO(Both<List<PlaceDTO>, List<ChargingDTO>> result) {
+        LoadAllPlaceDTO response = new LoadAllPlaceDTO();
+        response.setPlacePoi(result.first());
+        response.setCharPoi(result.second());
+        return response;
+    }
+
+    record Both<A, B>(A first, B second) {
+    }
+
+    // StructuredTaskScope(ShutdownOnFailure) 가 아직 preview 라 같은 모양을 직접 만든다:
+    // 둘 다 끝나야 돌아오고, 한쪽이 실패하면 다른 쪽은 취소하고 그 예외를 그대로 던진다.
+    // try 블록을 나갈 때 close() 가 두 작업이 끝나기를 기다리므로 요청보다 오래 사는 스레드는 없다
+    static <A, B> Both<A, B> both(Callable<A> first, Callable<B> second) {
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 끝나는 순서대로 꺼내서, 늦게 끝나는 쪽을 기다리지 않고 먼저 난 실패를 바로 본다
+            CompletionService<Object> done = new ExecutorCompletionService<>(scope);
+            Future<Object> a = done.submit(first::call);
+            Future<Object> b = done.submit(second::call);
+            try {
+                done.take().get();
+                done.take().get();
+            } catch (ExecutionException e) {
+                a.cancel(true);
+                b.cancel(true);
+                throw unwrap(e.getCause());
+            } catch (InterruptedException e) {
+                a.cancel(true);
+                b.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("map load interrupted", e);
+            }
+            @SuppressWarnings("unchecked")
+            Both<A, B> result = new Both<>((A) a.resultNow(), (B) b.resultNow());
+            return result;
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.BusyHoursDTO;
+import org.example.spring_jwt.place.history.OccupancyRollup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 메모리에 있는 충전기 현재 상태를 주기적으로 표본으로 떠서 충전소별 요일 x 시간 점유율을 갱신.
+// 주기적으로, 그리고 종료할 때 파일로 저장하고 시작할 때 읽어 재시작해도 다시 계산하지 않는다
+@Service
+public class OccupancyRollupService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OccupancyRollupService.class);
+
+    private final ChargerStatusService chargerStatusService;
+    private final OccupancyRollup rollup;
+    private final Path file;
+    private volatile boolean loaded;
+
+    public OccupancyRollupService(ChargerStatusService chargerStatusService,
+                                  @Value("${charging.rollup.file:data/occupancy-rollup.bin}") String file,
+                                  @Value("${charging.rollup.alpha:0.1}") double alpha) {
+        this.chargerStatusService = chargerStatusService;
+        this.rollup = new OccupancyRollup(alpha);
+        this.file = Path.of(file);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (Files.exists(file)) {
+            try {
+                log.info("점유율 집계 {}개 충전소 불러옴", rollup.readFrom(file));
+            } catch (IOException e) {
+                log.warn("점유율 집계 파일 읽기 실패, 새로 집계: {}", e.getMessage());
+            }
+        }
+        loaded = true;
+    }
+
+    @Scheduled(initialDelayString = "${charging.rollup.sample-interval-ms:300000}",
+            fixedDelayString = "${charging.rollup.sample-interval-ms:300000}")
+    public void sample() {
+        if (!loaded || !chargerStatusService.isLoaded()) {
+            return;
+        }
+        int hourOfWeek = hourOfWeek(ZonedDateTime.now(ChargerStatusService.KST));
+        chargerStatusService.forEachStation((statId, available, charging) -> {
+            // 고장/점검 등으로 쓸 수 있는 충전기가 없으면 표본에서 뺀다
+            if (available + charging > 0) {
+                rollup.record(statId, hourOfWeek, (double) charging / (available + charging));
+            }
+        });
+    }
+
+    @Scheduled(initialDelayString = "${charging.rollup.persist-interval-ms:900000}",
+            fixedDelayString = "${charging.rollup.persist-interval-ms:900000}")
+    public void persist() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            rollup.writeTo(file);
+        } catch (IOException e) {
+            log.warn("점유율 집계 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 집계가 없는 충전소면 null
+    public BusyHoursDTO getBusyHours(String statId) {
+        Double[] buckets = rollup.get(statId);
+        if (buckets == null) {
+            return null;
+        }
+        List<List<Double>> weekly = new ArrayList<>(7);
+        for (int day = 0; day < 7; day++) {
+            weekly.add(Arrays.asList(Arrays.copyOfRange(buckets, day * 24, day * 24 + 24)));
+        }
+        BusyHoursDTO dto = new BusyHoursDTO();
+        dto.setStatId(statId);
+        dto.setWeekly(weekly);
+        return dto;
+    }
+
+    // 충전소가 삭제되면 집계도 정리
+    public void stationsRemoved(List<String> stationIds) {
+        stationIds.forEach(rollup::remove);
+    }
+
+    public int getStationCount() {
+        return rollup.size();
+    }
+
+    static int hourOfWeek(ZonedDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+
+    @Override
+    public void destroy() {
+        persist();
+    }
+}
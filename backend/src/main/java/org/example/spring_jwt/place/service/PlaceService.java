@@ -1,31 +1,50 @@
 package org.example.spring_jwt.place.service;
 
+import org.example.spring_jwt.dto.CustomUserDetails;
 import org.example.spring_jwt.entity.UserEntity;
+import org.example.spring_jwt.place.dto.CacheStatsDTO;
 import org.example.spring_jwt.place.dto.LoadPlaceDTO;
 import org.example.spring_jwt.place.dto.PlaceDTO;
 import org.example.spring_jwt.place.entity.PlaceEntity;
+import org.example.spring_jwt.place.geo.GeoUtils;
+import org.example.spring_jwt.place.geo.NearbyResponseCache;
+import org.example.spring_jwt.place.image.ImageVariant;
+import org.example.spring_jwt.place.repository.PlaceMarkerView;
 import org.example.spring_jwt.place.repository.PlaceRepository;
 import org.example.spring_jwt.repository.UserRepository;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
 
 @Service
 public class PlaceService {
+    private static final int NEARBY_CACHE_SIZE = 1000;
+    public static final String IMAGE_URL_PREFIX = "/images/";
+
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
+    private final ClusterService clusterService;
+    private final QueryMetrics queryMetrics;
+    private final NearbyResponseCache<LoadPlaceDTO> nearbyCache = new NearbyResponseCache<>(NEARBY_CACHE_SIZE);
 
-    public PlaceService(UserRepository userRepository, PlaceRepository placeRepository) {
+    public PlaceService(UserRepository userRepository, PlaceRepository placeRepository, ClusterService clusterService,
+                        QueryMetrics queryMetrics) {
         this.userRepository = userRepository;
         this.placeRepository = placeRepository;
+        this.clusterService = clusterService;
+        this.queryMetrics = queryMetrics;
     }
 
+    @Transactional
     public void addPlaceProcess(PlaceDTO placeDTO) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        UserEntity user = userRepository.findByUsername(username);
+        // JWTFilter 가 넣어 둔 principal 의 id 로 참조만 걸어 사용자 조회 쿼리 없이 저장
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        UserEntity user = userRepository.getReferenceById(principal.getId());
 
         PlaceEntity place = new PlaceEntity();
         place.setPlaceTitle(placeDTO.getPlaceTitle());
@@ -33,6 +52,13 @@ public class PlaceService {
         place.setLatitude(placeDTO.getLatitude());
         place.setLongitude(placeDTO.getLongitude());
         place.setPlaceImageURL(placeDTO.getPlaceImageURL());
+        if (placeDTO.getImageKey() != null) {
+            // 축소본은 ImageVariantService 가 뒤에서 만든다. 키는 원본 키로 정해져 있어 미리 기록
+            place.setImageKey(placeDTO.getImageKey());
+            place.setThumbnailImageKey(ImageVariant.THUMBNAIL.key(placeDTO.getImageKey()));
+            place.setPopupImageKey(ImageVariant.POPUP.key(placeDTO.getImageKey()));
+            place.setFullImageKey(ImageVariant.FULL.key(placeDTO.getImageKey()));
+        }
         place.setPer_price(placeDTO.getPer_price());
         place.setChar_type(placeDTO.getChar_type());
         place.setPlay_time(placeDTO.getPlay_time());
@@ -40,51 +66,110 @@ public class PlaceService {
         place.setMax_car(placeDTO.getMax_car());
 
         placeRepository.save(place);
+        // 커밋 전에 지우면 동시에 도는 주변 조회가 커밋 전 데이터를 다시 캐시할 수 있고, 롤백되면 클러스터에 없는 장소가 남는다
+        afterCommit(() -> {
+            clusterService.placeUpdated(place);
+            nearbyCache.invalidate(place.getLatitude(), place.getLongitude());
+        });
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     public LoadPlaceDTO findNearbyLocations(double lat, double lng) {
         double radius = 30.0; // km 단위
+        return nearbyCache.get(lat, lng, radius, (cellLat, cellLng) -> loadNearbyLocations(cellLat, cellLng, radius));
+    }
 
-        List<PlaceEntity> entities = placeRepository.findNearbyPlaces(lat, lng, radius);
+    public CacheStatsDTO getNearbyCacheStats() {
+        return nearbyCache.stats();
+    }
+
+    // 캐시 적중 때 트랜잭션을 열지 않도록 여기엔 @Transactional 을 달지 않는다.
+    // 조회 쿼리는 Spring Data 기본값대로 읽기 전용 트랜잭션에서 실행되어 replica 로 간다
+    private LoadPlaceDTO loadNearbyLocations(double lat, double lng, double radius) {
+        double dLat = GeoUtils.latDelta(radius);
+        double dLng = GeoUtils.lngDelta(lat, radius);
+        List<PlaceMarkerView> places = queryMetrics.record("place", "nearby", () -> placeRepository.findNearbyPlaces(
+                lat, lng, radius, lat - dLat, lat + dLat, lng - dLng, lng + dLng));
 
-        List<PlaceDTO> dtos = entities.stream().map(this::convertToDTO).toList();
-        System.out.println("entities =");
-        if (!entities.isEmpty()) {
-            System.out.println(entities.get(0).getId());
+        List<PlaceDTO> dtos = places.stream().map(this::convertToDTO).toList();
+
+        LoadPlaceDTO response = new LoadPlaceDTO();
+        response.setPoi(dtos);
+        return response;
+    }
+
+    // 지도 화면 영역 안의 장소 조회 (화면 중심에서 가까운 순 limit 개까지)
+    @Transactional(readOnly = true)
+    public LoadPlaceDTO findLocationsInBounds(double south, double west, double north, double east, int limit) {
+        List<PlaceMarkerView> places = queryMetrics.record("place", "bounds", () -> placeRepository.findPlacesInBounds(
+                south, west, north, east, (south + north) / 2, (west + east) / 2, limit));
+
+        LoadPlaceDTO response = new LoadPlaceDTO();
+        response.setPoi(places.stream().map(this::convertToDTO).toList());
+        return response;
+    }
+
+    // 가까운 순 limit 개. cursor 는 이전 페이지 마지막 장소의 id
+    @Transactional(readOnly = true)
+    public LoadPlaceDTO findNearestLocations(double lat, double lng, int limit, String cursor) {
+        double radius = 30.0; // km 단위
+        double dLat = GeoUtils.latDelta(radius);
+        double dLng = GeoUtils.lngDelta(lat, radius);
+
+        List<PlaceMarkerView> places;
+        if (cursor == null) {
+            places = queryMetrics.record("place", "nearest", () -> placeRepository.findNearestPlaces(
+                    lat, lng, radius, lat - dLat, lat + dLat, lng - dLng, lng + dLng, limit));
         } else {
-            System.out.println("No places found.");
+            int afterId;
+            try {
+                afterId = Integer.parseInt(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            places = queryMetrics.record("place", "nearest", () -> placeRepository.findNearestPlacesAfter(
+                    lat, lng, radius, lat - dLat, lat + dLat, lng - dLng, lng + dLng, afterId, limit));
         }
 
         LoadPlaceDTO response = new LoadPlaceDTO();
-        response.setPoi(dtos);
+        response.setPoi(places.stream().map(this::convertToDTO).toList());
+        if (places.size() == limit) {
+            response.setNextCursor(String.valueOf(places.get(places.size() - 1).getId()));
+        }
         return response;
     }
-    private PlaceDTO convertToDTO(PlaceEntity entity) {
-        PlaceDTO dto = new PlaceDTO();
-        dto.setPlaceTitle(entity.getPlaceTitle());
-        dto.setLatitude(entity.getLatitude());
-        dto.setLongitude(entity.getLongitude());
-        dto.setPlaceId(entity.getId());
-        dto.setPlaceImageURL(entity.getPlaceImageURL());
-        dto.setUserId(entity.getUser() != null ? entity.getUser().getId() : null);
-
-        // --- 이 부분이 핵심 수정입니다! ---
-        // entity의 실제 char_type 값을 가져와야 합니다.
-        dto.setChar_type(entity.getChar_type()); // entity.getChar_type()이 이미 String이라면 String.valueOf는 불필요
-        // null 체크는 getter 내부에서 처리하거나, String.valueOf(obj)로 안전하게 변환
-        // 만약 getChar_type()이 null일 가능성이 있다면, String.valueOf()로 감싸는 것이 안전.
-        // 예: dto.setChar_type(String.valueOf(entity.getChar_type()));
-
-        // entity의 실제 play_time 값을 가져와야 합니다.
-        dto.setPlay_time(entity.getPlay_time()); // entity.getPlay_time()이 이미 String이라면 String.valueOf는 불필요
-        // 예: dto.setPlay_time(String.valueOf(entity.getPlay_time()));
-
-        dto.setPer_price(entity.getPer_price());
-
-        // entity의 실제 max_car 값을 가져와야 합니다.
-        dto.setMax_car(String.valueOf(entity.getMax_car())); // getMax_car()가 int/Integer라면 String.valueOf로 변환 (프론트에서 String으로 받으므로)
-        // --- 수정 끝 ---
 
+    // JMH 벤치마크(DtoMappingBenchmark)에서도 호출하므로 package-private
+    PlaceDTO convertToDTO(PlaceMarkerView view) {
+        PlaceDTO dto = new PlaceDTO();
+        dto.setPlaceTitle(view.getPlaceTitle());
+        dto.setLatitude(view.getLatitude());
+        dto.setLongitude(view.getLongitude());
+        dto.setPlaceId(view.getId());
+        dto.setPlaceImageURL(view.getPlaceImageURL());
+        if (view.getThumbnailImageKey() != null) {
+            dto.setThumbnailImageURL(IMAGE_URL_PREFIX + view.getThumbnailImageKey());
+        }
+        // 사용자 엔티티를 읽지 않고 userid 컬럼 값을 그대로
+        dto.setUserId(view.getUserId() != null ? view.getUserId() : 0);
+        dto.setChar_type(view.getCharType());
+        dto.setPlay_time(view.getPlayTime());
+        dto.setPer_price(view.getPerPrice());
+        // 프론트에서 String 으로 받는다
+        dto.setMax_car(String.valueOf(view.getMaxCar()));
         return dto;
     }
 }
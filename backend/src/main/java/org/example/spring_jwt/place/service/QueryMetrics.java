@@ -0,0 +1,67 @@
+package org.example.spring_jwt.place.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 장소/충전소 조회 쿼리의 소요 시간(place.db.query)과 결과 행 수(place.db.results).
+// target 은 place/station, query 는 nearby/bounds/nearest 등.
+// 요청마다 로그를 남기지 않고 logEvery 번에 한번만 debug 로 남긴다
+@Component
+public class QueryMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long logEvery;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+
+    public QueryMetrics(MeterRegistry meterRegistry,
+                        @Value("${logging.sample.query-every:100}") long logEvery) {
+        this.meterRegistry = meterRegistry;
+        this.logEvery = Math.max(1, logEvery);
+    }
+
+    public <T> List<T> record(String target, String query, Supplier<List<T>> call) {
+        Meters meter = meters.computeIfAbsent(target + "." + query, key -> new Meters(
+                Timer.builder("place.db.query")
+                        .tag("target", target)
+                        .tag("query", query)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("place.db.results")
+                        .tag("target", target)
+                        .tag("query", query)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)));
+        long start = System.nanoTime();
+        List<T> rows = call.get();
+        long elapsed = System.nanoTime() - start;
+        meter.timer.record(elapsed, TimeUnit.NANOSECONDS);
+        meter.results.record(rows.size());
+        if (log.isDebugEnabled() && calls.incrementAndGet() % logEvery == 0) {
+            log.atDebug()
+                    .addKeyValue("target", target)
+                    .addKeyValue("query", query)
+                    .addKeyValue("rows", rows.size())
+                    .addKeyValue("elapsedMs", elapsed / 1_000_000.0)
+                    .log("db query (sampled)");
+        }
+        return rows;
+    }
+
+    private record Meters(Timer timer, DistributionSummary results) {
+    }
+}
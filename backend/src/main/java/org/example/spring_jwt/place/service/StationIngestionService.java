@@ -0,0 +1,408 @@
+package org.example.spring_jwt.place.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.spring_jwt.place.dto.UpsertResult;
+import org.example.spring_jwt.place.entity.ChargerEntity;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+import org.example.spring_jwt.place.entity.IngestionCheckpointEntity;
+import org.example.spring_jwt.place.repository.ChargerBatchRepository;
+import org.example.spring_jwt.place.repository.ChargingStationBatchRepository;
+import org.example.spring_jwt.place.repository.IngestionCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 공공데이터 충전기 정보(getChargerInfo)를 지역/페이지 단위로 병렬 적재.
+// - 페이지 요청은 virtual thread 로 돌리고 동시에 parallelism 개까지만 API 를 호출한다
+// - 일시적인 오류(네트워크, 5xx, 429)는 지수 backoff 로 재시도
+// - 지역별로 연속해서 끝난 마지막 페이지를 ingestion_checkpoint 에 남겨 죽었다 살아나면 이어서 적재
+// - 지역을 1 페이지부터 끝까지 받은 경우, 이번에 API 에 없던 충전소는 삭제(만료)
+// - 충전기(chgerId, 타입, 용량)도 같은 응답에서 charger 테이블에 함께 적재
+@Service
+public class StationIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(StationIngestionService.class);
+
+    // 적재 중 바뀐 충전소를 인덱스/캐시 등에 알려주는 콜백
+    public interface Listener {
+        void stationsChanged(List<ChargingStationEntity> stations);
+
+        void stationsRemoved(List<String> stationIds);
+    }
+
+    // API 에서 받은 충전소가 기존의 이 비율보다 적으면 응답 이상으로 보고 만료 처리를 건너뛴다
+    private static final double MIN_SEEN_RATIO_FOR_EXPIRY = 0.5;
+
+    // 시도 코드 전체 (서울, 부산, 대구, 인천, 광주, 대전, 울산, 세종, 경기, 강원, 충북, 충남, 전북, 전남, 경북, 경남, 제주)
+    public static final List<String> ALL_ZCODES = List.of(
+            "11", "26", "27", "28", "29", "30", "31", "36", "41", "42", "43", "44", "45", "46", "47", "48", "50");
+
+    private final ChargerApiClient chargerApiClient;
+    private final ChargingStationBatchRepository stationBatchRepository;
+    private final ChargerBatchRepository chargerBatchRepository;
+    private final IngestionCheckpointRepository checkpointRepository;
+    // 페이지 하나 전체(받기 + 파싱 + 쓰기)와 그 중 DB 쓰기만. 받기/파싱은 ChargerApiClient 가 잰다
+    private final Timer pageTimer;
+    private final Timer writeTimer;
+    private final List<String> zcodes;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int rowsPerPage;
+
+    public StationIngestionService(ChargerApiClient chargerApiClient,
+                                   ChargingStationBatchRepository stationBatchRepository,
+                                   ChargerBatchRepository chargerBatchRepository,
+                                   IngestionCheckpointRepository checkpointRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${charging.ingest.zcodes:11,41}") List<String> zcodes,
+                                   @Value("${charging.ingest.parallelism:4}") int parallelism,
+                                   @Value("${charging.ingest.max-attempts:4}") int maxAttempts,
+                                   @Value("${charging.ingest.backoff-ms:1000}") long backoffMillis,
+                                   @Value("${charging.ingest.rows-per-page:9999}") int rowsPerPage) {
+        this.chargerApiClient = chargerApiClient;
+        this.stationBatchRepository = stationBatchRepository;
+        this.chargerBatchRepository = chargerBatchRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.pageTimer = Timer.builder("charging.ingest.page").publishPercentileHistogram().register(meterRegistry);
+        this.writeTimer = Timer.builder("charging.ingest.write").publishPercentileHistogram().register(meterRegistry);
+        this.zcodes = zcodes.contains("all") ? ALL_ZCODES : List.copyOf(zcodes);
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.rowsPerPage = rowsPerPage;
+    }
+
+    public List<String> getZcodes() {
+        return zcodes;
+    }
+
+    // 설정된 지역 전체 적재. listener 는 새로 들어오거나 바뀐/삭제된 충전소 chunk 마다 호출된다
+    public UpsertResult ingest(Listener listener) {
+        return ingest(zcodes, listener);
+    }
+
+    public UpsertResult ingest(List<String> regions, Listener listener) {
+        UpsertResult total = new UpsertResult();
+        List<String> failures = new ArrayList<>();
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<UpsertResult>> results = new ArrayList<>();
+            for (String zcode : regions) {
+                results.add(executor.submit(() -> ingestRegion(zcode, executor, permits, listener)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    UpsertResult result = results.get(i).get();
+                    log.info("zcode {} 적재 결과: {}", regions.get(i), result);
+                    merge(total, result);
+                } catch (ExecutionException e) {
+                    log.error("zcode {} 적재 실패 (다음 실행에서 이어서 진행)", regions.get(i), e.getCause());
+                    failures.add(regions.get(i));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("충전소 적재 중단", e);
+        }
+        if (!failures.isEmpty()) {
+            throw new IngestionFailedException(failures, total);
+        }
+        return total;
+    }
+
+    // 일부 지역이 실패한 경우. 성공한 지역의 결과는 partialResult 에 있다
+    public static class IngestionFailedException extends RuntimeException {
+        private final UpsertResult partialResult;
+
+        IngestionFailedException(List<String> failedZcodes, UpsertResult partialResult) {
+            super("충전소 적재 실패 지역: " + failedZcodes);
+            this.partialResult = partialResult;
+        }
+
+        public UpsertResult getPartialResult() {
+            return partialResult;
+        }
+    }
+
+    private UpsertResult ingestRegion(String zcode, ExecutorService executor, Semaphore permits,
+                                      Listener listener) throws Exception {
+        IngestionCheckpointEntity checkpoint = checkpointRepository.findById(zcode).orElseGet(() -> {
+            IngestionCheckpointEntity entity = new IngestionCheckpointEntity();
+            entity.setZcode(zcode);
+            entity.setCompleted(true);
+            return entity;
+        });
+        // 지난 적재가 끝났으면 처음부터, 중간에 끊겼으면 그 다음 페이지부터
+        int firstPage = checkpoint.isCompleted() ? 1 : checkpoint.getLastCompletedPage() + 1;
+        PageTracker tracker = new PageTracker(checkpoint, firstPage - 1);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        UpsertResult total = new UpsertResult();
+        PageResult first = withPermit(permits, () -> fetchPageWithRetry(zcode, firstPage, listener, seen));
+        merge(total, first.result());
+        int totalPages = (int) Math.ceil(first.totalCount() / (double) rowsPerPage);
+        tracker.start(totalPages);
+        tracker.pageCompleted(firstPage);
+
+        List<Future<PageResult>> pages = new ArrayList<>();
+        for (int pageNo = firstPage + 1; pageNo <= totalPages; pageNo++) {
+            int page = pageNo;
+            pages.add(executor.submit(() -> {
+                PageResult result = withPermit(permits, () -> fetchPageWithRetry(zcode, page, listener, seen));
+                tracker.pageCompleted(page);
+                return result;
+            }));
+        }
+
+        Exception failure = null;
+        for (Future<PageResult> page : pages) {
+            try {
+                merge(total, page.get().result());
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        // 이어서 받은 경우에는 앞 페이지의 충전소를 이번에 보지 못했으므로 만료 처리를 하지 않는다
+        if (firstPage == 1) {
+            total.addRemoved(expireMissing(zcode, seen, listener));
+        }
+        tracker.finish();
+        return total;
+    }
+
+    // 이번에 API 에서 받지 못한 이 지역 충전소 삭제
+    private int expireMissing(String zcode, Set<String> seen, Listener listener) {
+        List<String> existing = stationBatchRepository.findStationIdsByZcode(zcode);
+        if (seen.size() < existing.size() * MIN_SEEN_RATIO_FOR_EXPIRY) {
+            log.warn("zcode {} 응답 충전소 수가 너무 적어 만료 처리를 건너뜀: {}/{}", zcode, seen.size(), existing.size());
+            return 0;
+        }
+        List<String> missing = existing.stream().filter(id -> !seen.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            stationBatchRepository.deleteByIds(missing);
+            chargerBatchRepository.deleteByStationIds(missing);
+            listener.stationsRemoved(missing);
+        }
+        return missing.size();
+    }
+
+    private PageResult fetchPageWithRetry(String zcode, int pageNo, Listener listener, Set<String> seen)
+            throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return fetchPage(zcode, pageNo, listener, seen);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isTransient(e)) {
+                    throw e;
+                }
+                long delay = backoffMillis * (1L << (attempt - 1));
+                delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+                log.warn("zcode {} page {} 재시도 {}/{} ({}ms 후): {}", zcode, pageNo, attempt, maxAttempts, delay,
+                        e.getMessage());
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    private PageResult fetchPage(String zcode, int pageNo, Listener listener, Set<String> seen) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("numOfRows", String.valueOf(rowsPerPage));
+        params.put("pageNo", String.valueOf(pageNo));
+        params.put("zcode", zcode);
+
+        // 응답을 읽는 동안 CHUNK_SIZE 충전소씩 바로 DB 에 쓴다
+        long start = System.nanoTime();
+        StationChunkWriter writer = new StationChunkWriter(zcode, listener, seen);
+        int totalCount = chargerApiClient.fetchItems("getChargerInfo", params, writer);
+        writer.flush();
+        pageTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new PageResult(totalCount, writer.total);
+    }
+
+    static boolean isTransient(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private static <T> T withPermit(Semaphore permits, PageCall<T> call) throws Exception {
+        permits.acquire();
+        try {
+            return call.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static void merge(UpsertResult total, UpsertResult result) {
+        synchronized (total) {
+            total.merge(result);
+        }
+    }
+
+    private interface PageCall<T> {
+        T run() throws Exception;
+    }
+
+    private record PageResult(int totalCount, UpsertResult result) {
+    }
+
+    // 페이지는 순서 없이 끝나므로, 1 페이지부터 연속으로 끝난 지점까지만 checkpoint 에 기록
+    private class PageTracker {
+        private final IngestionCheckpointEntity checkpoint;
+        private final TreeSet<Integer> pending = new TreeSet<>();
+        private int watermark;
+
+        PageTracker(IngestionCheckpointEntity checkpoint, int watermark) {
+            this.checkpoint = checkpoint;
+            this.watermark = watermark;
+        }
+
+        synchronized void start(int totalPages) {
+            checkpoint.setTotalPages(totalPages);
+            checkpoint.setCompleted(false);
+            save();
+        }
+
+        synchronized void pageCompleted(int pageNo) {
+            pending.add(pageNo);
+            boolean advanced = false;
+            while (!pending.isEmpty() && pending.first() == watermark + 1) {
+                watermark = pending.pollFirst();
+                advanced = true;
+            }
+            if (advanced) {
+                checkpoint.setLastCompletedPage(watermark);
+                save();
+            }
+        }
+
+        synchronized void finish() {
+            checkpoint.setCompleted(true);
+            save();
+        }
+
+        private void save() {
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    // API 는 충전기 단위로 내려주므로 같은 충전소가 연속해서 여러번 나온다
+    private class StationChunkWriter implements Consumer<Map<String, String>> {
+        private final String zcode;
+        private final Listener listener;
+        private final Set<String> seen;
+        private final Map<String, ChargingStationEntity> buffer = new LinkedHashMap<>();
+        private final Map<String, ChargerEntity> chargers = new LinkedHashMap<>();
+        private final UpsertResult total = new UpsertResult();
+
+        StationChunkWriter(String zcode, Listener listener, Set<String> seen) {
+            this.zcode = zcode;
+            this.listener = listener;
+            this.seen = seen;
+        }
+
+        @Override
+        public void accept(Map<String, String> item) {
+            ChargingStationEntity entity = toStationEntity(item, zcode);
+            seen.add(entity.getStationId());
+            buffer.put(entity.getStationId(), entity);
+            ChargerEntity charger = toChargerEntity(item);
+            if (charger != null) {
+                chargers.put(charger.getChargerId(), charger);
+            }
+            if (buffer.size() >= ChargingStationBatchRepository.CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            UpsertResult result = stationBatchRepository.upsert(new ArrayList<>(buffer.values()));
+            if (!result.getChanged().isEmpty()) {
+                listener.stationsChanged(result.getChanged());
+            }
+            // 변경 목록은 listener 로 넘겼으니 페이지 합계에는 건수만 남긴다
+            total.mergeCounts(result);
+            buffer.clear();
+            chargerBatchRepository.upsert(new ArrayList<>(chargers.values()));
+            chargers.clear();
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static ChargingStationEntity toStationEntity(Map<String, String> item, String zcode) {
+        ChargingStationEntity entity = new ChargingStationEntity();
+        entity.setStationId(item.get("statId"));
+        entity.setName(item.get("statNm"));
+        entity.setAddress(item.get("addr"));
+        entity.setLatitude(parseDouble(item.get("lat")));
+        entity.setLongitude(parseDouble(item.get("lng")));
+        entity.setOperatorName(item.get("busiNm"));
+        entity.setOperatorTel(item.get("busiCall"));
+        entity.setZcode(zcode);
+        entity.setContentHash(ChargingStationBatchRepository.contentHash(entity));
+        return entity;
+    }
+
+    // chgerId 가 없는 항목은 null
+    static ChargerEntity toChargerEntity(Map<String, String> item) {
+        String chgerId = item.get("chgerId");
+        if (chgerId == null || chgerId.isEmpty()) {
+            return null;
+        }
+        ChargerEntity entity = new ChargerEntity();
+        entity.setChargerId(ChargerEntity.chargerId(item.get("statId"), chgerId));
+        entity.setStationId(item.get("statId"));
+        entity.setChgerId(chgerId);
+        entity.setChgerType(item.get("chgerType"));
+        entity.setOutput(parseInteger(item.get("output")));
+        return entity;
+    }
+
+    private static Integer parseInteger(String value) {
+        try {
+            return value == null || value.isEmpty() ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return value == null ? 0.0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.SyncStatusDTO;
+import org.example.spring_jwt.place.dto.UpsertResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 공공데이터 충전소 주기 동기화. 서버 기동 경로에서 빠져 백그라운드에서 돈다.
+// 바뀐 충전소는 content hash 로 골라 쓰고, API 에서 사라진 충전소는 삭제한다 (StationIngestionService)
+@Service
+public class StationSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(StationSyncService.class);
+
+    private final StationIngestionService ingestionService;
+    private final ChargingService chargingService;
+    private final boolean enabled;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile SyncStatusDTO lastStatus = new SyncStatusDTO();
+
+    public StationSyncService(StationIngestionService ingestionService, ChargingService chargingService,
+                              @Value("${charging.sync.enabled:true}") boolean enabled) {
+        this.ingestionService = ingestionService;
+        this.chargingService = chargingService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(initialDelayString = "${charging.sync.initial-delay-ms:60000}",
+            fixedDelayString = "${charging.sync.interval-ms:21600000}")
+    public void scheduledSync() {
+        if (enabled) {
+            sync();
+        }
+    }
+
+    // 관리자 요청으로 바로 실행. 이미 돌고 있으면 false
+    public boolean triggerSync() {
+        if (running.get()) {
+            return false;
+        }
+        Thread.ofVirtual().name("station-sync").start(this::sync);
+        return true;
+    }
+
+    public void sync() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        SyncStatusDTO status = new SyncStatusDTO();
+        status.setLastStartedAt(LocalDateTime.now());
+        long start = System.nanoTime();
+        try {
+            UpsertResult result;
+            try {
+                result = ingestionService.ingest(chargingService);
+                status.setLastSucceeded(true);
+            } catch (StationIngestionService.IngestionFailedException e) {
+                result = e.getPartialResult();
+                status.setLastError(e.getMessage());
+            }
+            status.setInserted(result.getInserted());
+            status.setUpdated(result.getUpdated());
+            status.setUnchanged(result.getUnchanged());
+            status.setRemoved(result.getRemoved());
+            log.info("충전소 동기화 결과: {}", result);
+        } catch (RuntimeException e) {
+            status.setLastError(e.getMessage());
+            log.error("충전소 동기화 실패", e);
+        } finally {
+            status.setLastFinishedAt(LocalDateTime.now());
+            status.setLastDurationMs(Duration.ofNanos(System.nanoTime() - start).toMillis());
+            lastStatus = status;
+            running.set(false);
+        }
+    }
+
+    public SyncStatusDTO getStatus() {
+        SyncStatusDTO last = lastStatus;
+        SyncStatusDTO status = new SyncStatusDTO();
+        status.setRunning(running.get());
+        status.setLastStartedAt(last.getLastStartedAt());
+        status.setLastFinishedAt(last.getLastFinishedAt());
+        status.setLastDurationMs(last.getLastDurationMs());
+        status.setLastSucceeded(last.isLastSucceeded());
+        status.setLastError(last.getLastError());
+        status.setInserted(last.getInserted());
+        status.setUpdated(last.getUpdated());
+        status.setUnchanged(last.getUnchanged());
+        status.setRemoved(last.getRemoved());
+        status.setIndexedStations(chargingService.getIndexedStationCount());
+        return status;
+    }
+}
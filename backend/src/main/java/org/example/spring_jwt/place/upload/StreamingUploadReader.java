@@ -0,0 +1,147 @@
+package org.example.spring_jwt.place.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadByteCountLimitException;
+import org.apache.commons.fileupload2.core.FileUploadException;
+import org.apache.commons.fileupload2.core.FileUploadFileCountLimitException;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.example.spring_jwt.place.image.ImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+// multipart 요청을 서블릿 컨테이너가 메모리/임시 디스크에 다 받아두지 않고,
+// 들어오는 대로 읽어서 이미지는 ImageStorage 에 바로 저장(해시 계산 포함)한다.
+// - 파일 하나 / 요청 전체 크기 제한 (넘는 순간 읽기를 멈추고 413)
+// - part 수 / part 헤더 크기 제한 (헤더를 끝없이 보내 메모리를 채우지 못하게)
+// - 동시에 받는 업로드 수 제한 (넘으면 본문을 읽기 전에 429)
+@Component
+public class StreamingUploadReader {
+
+    // 텍스트 필드 하나의 최대 크기
+    private static final int MAX_FIELD_BYTES = 8 * 1024;
+    private static final int MAX_PARTS = 32;
+    // part 하나의 헤더(Content-Disposition, Content-Type 등) 최대 크기. 긴 한글 파일명도 들어가는 정도
+    private static final int MAX_PART_HEADER_BYTES = 1024;
+
+    private final ImageStorage imageStorage;
+    private final long maxFileBytes;
+    private final long maxRequestBytes;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public StreamingUploadReader(ImageStorage imageStorage,
+                                 @Value("${upload.max-file-bytes:10485760}") long maxFileBytes,
+                                 @Value("${upload.max-request-bytes:11534336}") long maxRequestBytes,
+                                 @Value("${upload.max-concurrent:4}") int maxConcurrent) {
+        this.imageStorage = imageStorage;
+        this.maxFileBytes = maxFileBytes;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    // fields 는 텍스트 필드, image 는 fileField 로 온 파일 (없으면 null)
+    public record Upload(Map<String, String> fields, ImageStorage.StoredImage image) {
+    }
+
+    // 거절하거나 형식이 잘못된 경우 UploadRejectedException. 실패하면 이번 요청으로 새로 생긴 이미지는 지운다
+    public Upload read(HttpServletRequest request, String fileField) throws IOException {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new UploadRejectedException(HttpStatus.BAD_REQUEST, "multipart 요청이 아닙니다.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new UploadRejectedException(HttpStatus.TOO_MANY_REQUESTS, "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        ImageStorage.StoredImage image = null;
+        try {
+            JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+            upload.setMaxSize(maxRequestBytes);
+            upload.setMaxFileSize(maxFileBytes);
+            upload.setMaxFileCount(MAX_PARTS);
+            upload.setMaxPartHeaderSize(MAX_PART_HEADER_BYTES);
+
+            Map<String, String> fields = new HashMap<>();
+            FileItemInputIterator items = upload.getItemIterator(request);
+            while (items.hasNext()) {
+                FileItemInput item = items.next();
+                try (InputStream in = item.getInputStream()) {
+                    if (item.isFormField()) {
+                        fields.put(item.getFieldName(), readField(in));
+                    } else if (fileField.equals(item.getFieldName()) && image == null) {
+                        String contentType = item.getContentType();
+                        if (contentType != null && !contentType.startsWith("image/")) {
+                            throw new UploadRejectedException(HttpStatus.BAD_REQUEST, "이미지 파일만 올릴 수 있습니다.");
+                        }
+                        image = imageStorage.store(in, maxFileBytes);
+                    }
+                    // 모르는 파일 필드는 닫으면서 건너뛴다
+                }
+            }
+            return new Upload(fields, image);
+        } catch (UploadRejectedException | IOException e) {
+            if (image != null && image.created()) {
+                imageStorage.delete(image.key());
+            }
+            throw translate(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 처리 중인 업로드 수
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private static String readField(InputStream in) throws IOException {
+        byte[] value = in.readNBytes(MAX_FIELD_BYTES + 1);
+        if (value.length > MAX_FIELD_BYTES) {
+            throw new UploadRejectedException(HttpStatus.PAYLOAD_TOO_LARGE, "입력값이 너무 깁니다.");
+        }
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static RuntimeException translate(Exception e) throws IOException {
+        if (e instanceof UploadRejectedException rejected) {
+            return rejected;
+        }
+        if (e instanceof ImageStorage.TooLargeException || e instanceof FileUploadByteCountLimitException) {
+            return new UploadRejectedException(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 파일이 너무 큽니다.");
+        }
+        if (e instanceof FileUploadSizeException || e instanceof FileUploadFileCountLimitException) {
+            return new UploadRejectedException(HttpStatus.PAYLOAD_TOO_LARGE, "요청이 너무 큽니다.");
+        }
+        if (e instanceof FileUploadException) {
+            return new UploadRejectedException(HttpStatus.BAD_REQUEST, "잘못된 multipart 요청입니다.");
+        }
+        // 클라이언트 연결 끊김, 디스크 오류 등
+        throw (IOException) e;
+    }
+
+    public static class UploadRejectedException extends RuntimeException {
+
+        private final HttpStatus status;
+
+        public UploadRejectedException(HttpStatus status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+    }
+}
@@ -2,9 +2,13 @@ package org.example.spring_jwt.repository;
 
 import org.example.spring_jwt.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Integer> {
+    // 가입 직후 조회가 replica 지연으로 빗나가지 않도록 primary 에서 읽는다 (readOnly 가 아닌 트랜잭션)
+    @Transactional
     Boolean existsByUsername(String username);
+    @Transactional
     UserEntity findByUsername(String username);
     int findIdByUsername(String username);
 }
@@ -2,7 +2,6 @@ package org.example.spring_jwt.service;
 
 import org.example.spring_jwt.dto.CustomUserDetails;
 import org.example.spring_jwt.entity.UserEntity;
-import org.example.spring_jwt.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,18 +9,18 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class CustomUserDetailService implements UserDetailsService {
-    private final UserRepository userRepository;
-    public CustomUserDetailService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    private final UserCache userCache;
+    public CustomUserDetailService(UserCache userCache) {
+        this.userCache = userCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity userData = userRepository.findByUsername(username);
+        UserEntity userData = userCache.findByUsername(username);
         if (userData != null) {
             return new CustomUserDetails(userData);
         }
-        return null;
+        throw new UsernameNotFoundException(username);
     }
 
 }
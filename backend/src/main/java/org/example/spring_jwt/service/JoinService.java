@@ -11,11 +11,13 @@ import org.springframework.stereotype.Service;
 public class JoinService {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final UserCache userCache;
 
 
-    public JoinService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder ) {
+    public JoinService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder, UserCache userCache) {
         this.userRepository = userRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.userCache = userCache;
     }
 
     public void joinProcess(JoinDTO joinDTO) {
@@ -34,6 +36,8 @@ public class JoinService {
         data.setPassword(bCryptPasswordEncoder.encode(password));
         data.setRole("ROLE_ADMIN");
         userRepository.save(data);
+        // 가입 전에 없는 사용자로 기억해 둔 것을 지운다
+        userCache.invalidate(username);
 
     }
 }
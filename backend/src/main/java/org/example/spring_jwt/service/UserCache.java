@@ -0,0 +1,82 @@
+package org.example.spring_jwt.service;
+
+import org.example.spring_jwt.entity.UserEntity;
+import org.example.spring_jwt.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// username → 사용자(id, 비밀번호 해시, 권한) 캐시. 인증된 요청마다 DB 를 보지 않도록.
+// 항목은 ttl 이 지나면 다시 읽으므로 DB 에서 바뀐 권한이나 삭제된 계정도 ttl 안에 반영되고,
+// 이 서버에서 바꾸는 경우는 invalidate 로 바로 반영한다. 없는 사용자도 같은 ttl 로 기억한다
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.ttl-ms:60000}") long ttlMillis,
+                     @Value("${user.cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    // 캐시된 값의 복사본. 없는 사용자면 null
+    public UserEntity findByUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(username);
+        if (entry == null || entry.expiresAt <= now) {
+            UserEntity loaded = userRepository.findByUsername(username);
+            entry = new Entry(loaded == null ? null : copy(loaded), now + ttlMillis);
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(username, entry);
+        }
+        return entry.user == null ? null : copy(entry.user);
+    }
+
+    public void invalidate(String username) {
+        entries.remove(username);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int excess = entries.size() - maxSize * 3 / 4;
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static UserEntity copy(UserEntity user) {
+        UserEntity copy = new UserEntity();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setPassword(user.getPassword());
+        copy.setRole(user.getRole());
+        return copy;
+    }
+
+    private record Entry(UserEntity user, long expiresAt) {
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.spring_jwt.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTests {
+
+    private final AtomicBoolean replicaUsable = new AtomicBoolean(true);
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS origin (name VARCHAR(16))");
+        jdbc.execute("DELETE FROM origin");
+        jdbc.update("INSERT INTO origin VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadWriteRoutingDataSource(database("primary"), database("replica"), replicaUsable::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private String origin() {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private String origin(TransactionTemplate transaction) {
+        return transaction.execute(status -> origin());
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(origin(readOnly)).isEqualTo("replica");
+        assertThat(origin(readWrite)).isEqualTo("primary");
+        assertThat(origin()).isEqualTo("primary");
+        assertThat(routing.getReplicaRoutes()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhileReplicaLags() {
+        replicaUsable.set(false);
+
+        assertThat(origin(readOnly)).isEqualTo("primary");
+        assertThat(routing.getFallbackRoutes()).isEqualTo(1);
+    }
+
+    @Test
+    void lagMonitorMarksReplicaUsableOnlyWithinTolerance() {
+        DataSource replica = database("lagging");
+        ReplicaLagMonitor withinTolerance = new ReplicaLagMonitor(replica, "SELECT 500", 2000);
+        ReplicaLagMonitor tooFarBehind = new ReplicaLagMonitor(replica, "SELECT 5000", 2000);
+        ReplicaLagMonitor failing = new ReplicaLagMonitor(replica, "SELECT lag FROM missing", 2000);
+
+        assertThat(withinTolerance.isUsable()).isFalse();
+        withinTolerance.check();
+        tooFarBehind.check();
+        failing.check();
+
+        assertThat(withinTolerance.isUsable()).isTrue();
+        assertThat(withinTolerance.getLagMillis()).isEqualTo(500);
+        assertThat(tooFarBehind.isUsable()).isFalse();
+        assertThat(failing.isUsable()).isFalse();
+        assertThat(failing.getLagMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void sizesEachPoolSeparatelyOnlyWhenReplicaIsConfigured() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+                .withUserConfiguration(DataSourceRoutingConfig.class)
+                .withPropertyValues("spring.datasource.url=jdbc:h2:mem:config-primary",
+                        "spring.datasource.hikari.maximum-pool-size=7");
+
+        runner.run(context -> assertThat(context).doesNotHaveBean(ReadWriteRoutingDataSource.class));
+        runner.withPropertyValues("spring.datasource.replica.url=jdbc:h2:mem:config-replica",
+                        "spring.datasource.replica.hikari.maximum-pool-size=3")
+                .run(context -> {
+                    assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+                    assertThat(context.getBean("primaryDataSource", HikariDataSource.class).getMaximumPoolSize()).isEqualTo(7);
+                    assertThat(context.getBean("replicaDataSource", HikariDataSource.class).getMaximumPoolSize()).isEqualTo(3);
+                });
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.spring_jwt.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScrapeAuthorizationManagerTests {
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken(
+            "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    @Test
+    void anonymousRequestsAreDenied() {
+        ScrapeAuthorizationManager manager = new ScrapeAuthorizationManager("prometheus", "secret");
+
+        assertThat(manager.authorize(() -> ANONYMOUS, context(null)).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> ANONYMOUS, context(basic("prometheus", "wrong"))).isGranted()).isFalse();
+    }
+
+    @Test
+    void scrapeCredentialIsGranted() {
+        ScrapeAuthorizationManager manager = new ScrapeAuthorizationManager("prometheus", "secret");
+
+        assertThat(manager.authorize(() -> ANONYMOUS, context(basic("prometheus", "secret"))).isGranted()).isTrue();
+    }
+
+    @Test
+    void emptyPasswordAllowsOnlyAdmins() {
+        ScrapeAuthorizationManager manager = new ScrapeAuthorizationManager("prometheus", "");
+        Authentication user = UsernamePasswordAuthenticationToken.authenticated(
+                "user", null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        Authentication admin = UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        assertThat(manager.authorize(() -> ANONYMOUS, context(basic("prometheus", ""))).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> user, context(null)).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> admin, context(null)).isGranted()).isTrue();
+    }
+
+    private static RequestAuthorizationContext context(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return new RequestAuthorizationContext(request);
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.spring_jwt.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JWTUtilTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123456789";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET, 4, meterRegistry);
+
+    @Test
+    void verifiesOnceAndServesRepeatsFromCache() {
+        String token = jwtUtil.createJwt("user", "ROLE_USER", 60_000L);
+
+        JWTUtil.VerifiedToken first = jwtUtil.verify(token);
+        assertThat(first.username()).isEqualTo("user");
+        assertThat(first.role()).isEqualTo("ROLE_USER");
+        assertThat(jwtUtil.verify(token)).isSameAs(first);
+        assertThat(jwtUtil.cachedCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("cache", "miss").tag("result", "valid").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("cache", "hit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsTamperedForeignAndExpiredTokens() {
+        String token = jwtUtil.createJwt("user", "ROLE_USER", 60_000L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String foreign = new JWTUtil(SECRET.replace('0', '1'), 4, new SimpleMeterRegistry()).createJwt("user", "ROLE_ADMIN", 60_000L);
+        String expired = jwtUtil.createJwt("user", "ROLE_USER", -1_000L);
+
+        assertThat(jwtUtil.verify(tampered)).isNull();
+        assertThat(jwtUtil.verify(foreign)).isNull();
+        assertThat(jwtUtil.verify(expired)).isNull();
+        assertThat(jwtUtil.verify("not-a-jwt")).isNull();
+        assertThat(jwtUtil.cachedCount()).isZero();
+    }
+
+    @Test
+    void cacheStaysBounded() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(jwtUtil.verify(jwtUtil.createJwt("user" + i, "ROLE_USER", 60_000L))).isNotNull();
+        }
+        assertThat(jwtUtil.cachedCount()).isLessThanOrEqualTo(4);
+    }
+}
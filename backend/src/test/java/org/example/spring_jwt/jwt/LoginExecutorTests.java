@@ -0,0 +1,59 @@
+package org.example.spring_jwt.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginExecutorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginExecutor loginExecutor = new LoginExecutor(1, 1, 5_000, meterRegistry);
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        loginExecutor.destroy();
+    }
+
+    @Test
+    void returnsResultsAndPropagatesAuthenticationFailures() {
+        assertThat(loginExecutor.verify(() -> "ok")).isEqualTo("ok");
+        assertThatThrownBy(() -> loginExecutor.verify(() -> {
+            throw new BadCredentialsException("bad");
+        })).isInstanceOf(BadCredentialsException.class);
+        assertThat(loginExecutor.getStats().getRejectedCount()).isZero();
+        // 실패한 검증도 해시 시간은 잰다
+        assertThat(meterRegistry.get("login.hash.duration").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 스레드 1개는 실행 중, 대기열 1칸은 대기 중
+        callers.submit(() -> loginExecutor.verify(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> loginExecutor.verify(() -> true));
+        while (loginExecutor.getStats().getQueueDepth() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThatThrownBy(() -> loginExecutor.verify(() -> true))
+                .isInstanceOf(LoginExecutor.LoginRejectedException.class);
+        assertThat(loginExecutor.getStats().getRejectedCount()).isEqualTo(1);
+        release.countDown();
+    }
+}
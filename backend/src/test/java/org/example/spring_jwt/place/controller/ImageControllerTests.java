@@ -0,0 +1,127 @@
+package org.example.spring_jwt.place.controller;
+
+import org.example.spring_jwt.place.image.ImageStorage;
+import org.example.spring_jwt.place.image.ImageVariant;
+import org.example.spring_jwt.place.image.ImageVariantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ImageControllerTests {
+
+    @TempDir
+    Path root;
+
+    private ImageVariantService variants;
+    private ImageController controller;
+    private byte[] photo;
+    private String key;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        variants = mock(ImageVariantService.class);
+        controller = new ImageController(storage, variants);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB), "png", out);
+        photo = out.toByteArray();
+        key = storage.store(new ByteArrayInputStream(photo)).key();
+    }
+
+    private MockHttpServletResponse get(String key, MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.image(key, request, response);
+        return response;
+    }
+
+    @Test
+    void servesImmutableContentWithStrongEtag() throws IOException {
+        MockHttpServletResponse response = get(key, new MockHttpServletRequest("GET", "/images/" + key));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(photo);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + key + "\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(ImageController.IMMUTABLE);
+
+        MockHttpServletRequest revalidate = new MockHttpServletRequest("GET", "/images/" + key);
+        revalidate.addHeader("If-None-Match", "\"" + key + "\"");
+        MockHttpServletResponse notModified = get(key, revalidate);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void servesSingleByteRanges() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + key);
+        request.addHeader("Range", "bytes=4-11");
+        MockHttpServletResponse response = get(key, request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 4-11/" + photo.length);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(photo, 4, 12));
+
+        MockHttpServletRequest outside = new MockHttpServletRequest("GET", "/images/" + key);
+        outside.addHeader("Range", "bytes=" + photo.length + "-");
+        MockHttpServletResponse unsatisfiable = get(key, outside);
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader("Content-Range")).isEqualTo("bytes */" + photo.length);
+    }
+
+    @Test
+    void copiesRangesSpanningSeveralBuffersWithoutSendfile() throws IOException {
+        byte[] large = new byte[ImageController.COPY_BUFFER_BYTES * 3 + 123];
+        new Random(7).nextBytes(large);
+        Path file = root.resolve("large.bin");
+        Files.write(file, large);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageController.copyRange(file, 1000, large.length - 10, out);
+        assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(large, 1000, large.length - 10));
+
+        assertThatThrownBy(() -> ImageController.copyRange(file, 0, large.length + 1, new ByteArrayOutputStream()))
+                .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void parsesRangeForms() {
+        assertThat(ImageController.parseRange("bytes=0-", 100)).containsExactly(0, 100);
+        assertThat(ImageController.parseRange("bytes=-10", 100)).containsExactly(90, 100);
+        assertThat(ImageController.parseRange("bytes=90-500", 100)).containsExactly(90, 100);
+        assertThat(ImageController.parseRange("bytes=0-1,5-6", 100)).isNull();
+        assertThat(ImageController.parseRange("items=0-1", 100)).isNull();
+    }
+
+    @Test
+    void fallsBackToOriginalWhileVariantIsMissing() throws IOException {
+        String thumbnail = ImageVariant.THUMBNAIL.key(key);
+        MockHttpServletResponse response = get(thumbnail, new MockHttpServletRequest("GET", "/images/" + thumbnail));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(photo);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + key + "\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(ImageController.FALLBACK);
+        verify(variants).generateAsync(key);
+
+        assertThat(get("f".repeat(40), new MockHttpServletRequest()).getStatus()).isEqualTo(404);
+        assertThat(get("..", new MockHttpServletRequest()).getStatus()).isEqualTo(404);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.spring_jwt.place.controller;
+
+import org.example.spring_jwt.place.dto.LoadAllPlaceDTO;
+import org.example.spring_jwt.place.service.ChargingService;
+import org.example.spring_jwt.place.service.ClusterService;
+import org.example.spring_jwt.place.service.MapLoadService;
+import org.example.spring_jwt.place.service.OccupancyRollupService;
+import org.example.spring_jwt.place.service.PlaceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadPlaceControllerTests {
+
+    private PlaceService placeService;
+    private ChargingService chargingService;
+    private ClusterService clusterService;
+    private MapLoadService mapLoadService;
+    private LoadPlaceController controller;
+
+    @BeforeEach
+    void setUp() {
+        placeService = mock(PlaceService.class);
+        chargingService = mock(ChargingService.class);
+        clusterService = mock(ClusterService.class);
+        mapLoadService = mock(MapLoadService.class);
+        controller = new LoadPlaceController(placeService, chargingService, clusterService,
+                mock(OccupancyRollupService.class), mapLoadService);
+    }
+
+    @Test
+    void boundsQueriesRejectViewportsWiderThanTheMaxSpan() {
+        assertThat(controller.loadLocationInBounds(33.0, 126.0, 38.5, 129.5).getStatusCode().value()).isEqualTo(400);
+        assertThat(controller.loadCharLocationInBounds(37.4, 126.0, 37.6, 127.0).getStatusCode().value()).isEqualTo(400);
+        assertThat(controller.loadCharLocationInBounds(37.6, 126.9, 37.4, 127.1).getStatusCode().value()).isEqualTo(400);
+        verify(placeService, never()).findLocationsInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+        verify(chargingService, never()).findCharLocationsInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void boundsQueriesAreCappedAtTheMaxRowCount() {
+        controller.loadLocationInBounds(37.4, 126.9, 37.6, 127.1);
+        controller.loadCharLocationInBounds(37.4, 126.9, 37.6, 127.1);
+
+        verify(placeService).findLocationsInBounds(37.4, 126.9, 37.6, 127.1, LoadPlaceController.MAX_BOUNDS_RESULTS);
+        verify(chargingService).findCharLocationsInBounds(37.4, 126.9, 37.6, 127.1, LoadPlaceController.MAX_BOUNDS_RESULTS);
+    }
+
+    @Test
+    void clustersFallBackToClustersWhenAnIndividualZoomViewportIsTooWide() {
+        when(mapLoadService.loadInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(new LoadAllPlaceDTO());
+
+        controller.loadClusters(33.0, 126.0, 38.5, 129.5, ClusterService.INDIVIDUAL_ZOOM);
+        verify(mapLoadService, never()).loadInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+        verify(clusterService).findStationClusters(ClusterService.INDIVIDUAL_ZOOM, 33.0, 126.0, 38.5, 129.5);
+
+        controller.loadClusters(37.4, 126.9, 37.6, 127.1, ClusterService.INDIVIDUAL_ZOOM);
+        verify(mapLoadService).loadInBounds(37.4, 126.9, 37.6, 127.1, LoadPlaceController.MAX_BOUNDS_RESULTS);
+    }
+}
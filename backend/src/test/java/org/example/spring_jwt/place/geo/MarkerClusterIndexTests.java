@@ -0,0 +1,42 @@
+package org.example.spring_jwt.place.geo;
+
+import org.example.spring_jwt.place.dto.ClusterDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class MarkerClusterIndexTests {
+
+    @Test
+    void lowZoomMergesNearbyPointsIntoOneCluster() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.put("A", 37.500, 127.000);
+        index.put("B", 37.502, 127.002);
+        index.put("C", 35.100, 129.000);
+
+        List<ClusterDTO> clusters = index.query(8, 33.0, 124.0, 39.0, 131.0);
+
+        assertThat(clusters).extracting(ClusterDTO::getCount).containsExactlyInAnyOrder(2, 1);
+        ClusterDTO seoul = clusters.stream().filter(c -> c.getCount() == 2).findFirst().orElseThrow();
+        assertThat(seoul.getLat()).isCloseTo(37.501, offset(1e-9));
+        assertThat(seoul.getSouth()).isEqualTo(37.500);
+        assertThat(seoul.getNorth()).isEqualTo(37.502);
+    }
+
+    @Test
+    void movingAndRemovingPointsUpdatesCounts() {
+        MarkerClusterIndex index = new MarkerClusterIndex();
+        index.put("A", 37.5, 127.0);
+        index.put("B", 37.5, 127.0);
+
+        index.put("B", 35.1, 129.0);
+        index.remove("A");
+
+        assertThat(index.query(10, 37.0, 126.5, 38.0, 127.5)).isEmpty();
+        assertThat(index.query(10, 35.0, 128.5, 35.5, 129.5)).extracting(ClusterDTO::getCount).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.spring_jwt.place.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NearbyResponseCacheTests {
+
+    @Test
+    void concurrentMissesForSameCellRunOneLoad() throws Exception {
+        NearbyResponseCache<String> cache = new NearbyResponseCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                double jitter = i * 0.0001;
+                results.add(executor.submit(() -> cache.get(37.5001 + jitter, 127.0001, 30.0, (lat, lng) -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("result");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+        assertThat(cache.stats().getCoalesced() + cache.stats().getHits()).isEqualTo(7);
+    }
+
+    @Test
+    void loaderErrorReachesWaitersAndFreesTheCell() throws Exception {
+        NearbyResponseCache<String> cache = new NearbyResponseCache<>(10);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> loading = executor.submit(() -> cache.get(37.5001, 127.0001, 30.0, (lat, lng) -> {
+                await(release);
+                throw new Error("loader failed");
+            }));
+            Thread.sleep(200);
+            Future<String> waiting = executor.submit(() -> cache.get(37.5002, 127.0001, 30.0, (lat, lng) -> "unused"));
+            Thread.sleep(200);
+            release.countDown();
+
+            assertThatThrownBy(() -> loading.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(Error.class);
+            assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(Error.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.stats().getCoalesced()).isEqualTo(1);
+        assertThat(cache.get(37.5001, 127.0001, 30.0, (lat, lng) -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void invalidateDropsEntriesCoveringThePointAndEvictsLeastRecentlyUsed() {
+        NearbyResponseCache<String> cache = new NearbyResponseCache<>(2);
+        cache.get(37.50, 127.00, 1.0, (lat, lng) -> "seoul");
+        cache.get(35.10, 129.00, 1.0, (lat, lng) -> "busan");
+
+        cache.invalidate(37.501, 127.001);
+        assertThat(cache.stats().getInvalidations()).isEqualTo(1);
+        assertThat(cache.get(35.10, 129.00, 1.0, (lat, lng) -> "reloaded")).isEqualTo("busan");
+
+        cache.get(36.35, 127.38, 1.0, (lat, lng) -> "daejeon");
+        cache.get(37.50, 127.00, 1.0, (lat, lng) -> "seoul");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.spring_jwt.place.geo;
+
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationSpatialIndexTests {
+
+    private static ChargingDTO station(String id, double lat, double lng) {
+        ChargingDTO dto = new ChargingDTO();
+        dto.setStatId(id);
+        dto.setLat(lat);
+        dto.setLng(lng);
+        return dto;
+    }
+
+    @Test
+    void findWithinMatchesFullScan() {
+        Random random = new Random(42);
+        List<ChargingDTO> stations = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            stations.add(station("S" + i, 37.0 + random.nextDouble() * 1.5, 126.5 + random.nextDouble() * 1.5));
+        }
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(stations);
+
+        double lat = 37.4979, lng = 127.0276, radius = 10.0;
+        List<String> expected = stations.stream()
+                .filter(s -> GeoUtils.distanceKm(lat, lng, s.getLat(), s.getLng()) < radius)
+                .sorted(Comparator.comparingDouble(s -> GeoUtils.distanceKm(lat, lng, s.getLat(), s.getLng())))
+                .map(ChargingDTO::getStatId)
+                .toList();
+
+        assertThat(index.findWithin(lat, lng, radius)).extracting(ChargingDTO::getStatId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findInBoundsKeepsTheStationsNearestTheCenterUpToTheLimit() {
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(List.of(station("FAR", 37.59, 127.09), station("NEAR", 37.501, 127.001),
+                station("MID", 37.55, 127.05), station("OUT", 38.0, 127.0)));
+
+        assertThat(index.findInBounds(37.4, 126.9, 37.6, 127.1, 2))
+                .extracting(ChargingDTO::getStatId).containsExactly("NEAR", "MID");
+        assertThat(index.findInBounds(37.4, 126.9, 37.6, 127.1, 10))
+                .extracting(ChargingDTO::getStatId).containsExactly("NEAR", "MID", "FAR");
+    }
+
+    @Test
+    void changesMadeWhileRebuildingSurviveTheSwap() {
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(List.of(station("MOVED", 37.50, 127.00), station("EXPIRED", 37.51, 127.01)));
+
+        // 테이블을 읽는 동안 동기화가 들어온 경우: 읽은 목록은 그 이전 상태
+        index.rebuild(() -> {
+            Thread sync = Thread.ofVirtual().start(() -> {
+                index.put(station("NEW", 37.52, 127.02));
+                index.put(station("MOVED", 35.10, 129.00));
+                index.remove("EXPIRED");
+            });
+            try {
+                sync.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return List.of(station("MOVED", 37.50, 127.00), station("EXPIRED", 37.51, 127.01));
+        });
+
+        assertThat(index.get("NEW")).isNotNull();
+        assertThat(index.get("MOVED").getLat()).isEqualTo(35.10);
+        assertThat(index.get("EXPIRED")).isNull();
+        assertThat(index.findWithin(37.5, 127.0, 5)).extracting(ChargingDTO::getStatId).containsExactly("NEW");
+    }
+
+    @Test
+    void putMovesStationBetweenCells() {
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(List.of(station("A", 37.50, 127.00)));
+
+        index.put(station("A", 35.10, 129.00));
+
+        assertThat(index.findWithin(37.50, 127.00, 1.0)).isEmpty();
+        assertThat(index.findWithin(35.10, 129.00, 1.0)).extracting(ChargingDTO::getStatId).containsExactly("A");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void findNearestPagesOutwardInDistanceOrder() {
+        Random random = new Random(7);
+        List<ChargingDTO> stations = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            stations.add(station("S" + i, 37.3 + random.nextDouble() * 0.5, 126.8 + random.nextDouble() * 0.5));
+        }
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(stations);
+
+        double lat = 37.55, lng = 127.05;
+        List<String> expected = stations.stream()
+                .sorted(Comparator.comparingDouble((ChargingDTO s) -> GeoUtils.distanceKm(lat, lng, s.getLat(), s.getLng()))
+                        .thenComparing(ChargingDTO::getStatId))
+                .limit(60)
+                .map(ChargingDTO::getStatId)
+                .toList();
+
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < 3; page++) {
+            List<ChargingDTO> result = index.findNearest(lat, lng, 20, 30.0, cursor);
+            result.forEach(s -> paged.add(s.getStatId()));
+            cursor = result.get(result.size() - 1).getStatId();
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findNearestLooksAcrossTheCellEdgeBeforeStopping() {
+        // 조회 지점의 칸(37.52~37.54)에는 1.5km 떨어진 점이 limit 보다 많고, 가장 가까운 점은 위쪽 칸 경계 너머 20m
+        List<ChargingDTO> stations = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            stations.add(station("FAR" + i, 37.5265, 127.001 + i * 0.0006));
+        }
+        stations.add(station("NEAR", 37.5401, 127.01));
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(stations);
+
+        List<ChargingDTO> result = index.findNearest(37.5399, 127.01, 20, 30.0, null);
+
+        assertThat(result).hasSize(20);
+        assertThat(result.get(0).getStatId()).isEqualTo("NEAR");
+    }
+
+    @Test
+    void findNearestMatchesFullScanNearCellEdges() {
+        Random random = new Random(11);
+        List<ChargingDTO> stations = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            stations.add(station("S" + i, 37.3 + random.nextDouble() * 0.5, 126.8 + random.nextDouble() * 0.5));
+        }
+        StationSpatialIndex index = new StationSpatialIndex();
+        index.rebuild(stations);
+
+        // 칸 모서리/변 바로 안쪽 지점들
+        double[][] queries = {{37.5399, 127.0101}, {37.5201, 127.0199}, {37.4999, 126.9999}, {37.5, 127.0}};
+        for (double[] query : queries) {
+            List<String> expected = stations.stream()
+                    .sorted(Comparator.comparingDouble(
+                                    (ChargingDTO s) -> GeoUtils.distanceKm(query[0], query[1], s.getLat(), s.getLng()))
+                            .thenComparing(ChargingDTO::getStatId))
+                    .limit(5)
+                    .map(ChargingDTO::getStatId)
+                    .toList();
+            assertThat(index.findNearest(query[0], query[1], 5, 30.0, null))
+                    .extracting(ChargingDTO::getStatId).containsExactlyElementsOf(expected);
+        }
+    }
+}
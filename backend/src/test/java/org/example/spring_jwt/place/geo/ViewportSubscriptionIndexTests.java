@@ -0,0 +1,45 @@
+package org.example.spring_jwt.place.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ViewportSubscriptionIndexTests {
+
+    private final ViewportSubscriptionIndex<String> index = new ViewportSubscriptionIndex<>(400);
+
+    @Test
+    void routesOnlyToViewportsContainingThePoint() {
+        index.subscribe("gangnam", 37.49, 127.02, 37.52, 127.06);
+        index.subscribe("jongno", 37.56, 126.97, 37.59, 127.01);
+        index.subscribe("seoul", 37.40, 126.80, 37.70, 127.20);
+
+        assertThat(index.subscribersAt(37.50, 127.03)).containsExactlyInAnyOrder("gangnam", "seoul");
+        assertThat(index.subscribersAt(37.57, 126.98)).containsExactlyInAnyOrder("jongno", "seoul");
+        // 같은 칸이지만 영역 밖
+        assertThat(index.subscribersAt(37.53, 127.03)).containsExactly("seoul");
+        assertThat(index.subscribersAt(35.10, 129.04)).isEmpty();
+    }
+
+    @Test
+    void resubscribeMovesTheViewport() {
+        index.subscribe("client", 37.49, 127.02, 37.52, 127.06);
+        index.subscribe("client", 35.09, 129.00, 35.12, 129.05);
+
+        assertThat(index.subscribersAt(37.50, 127.03)).isEmpty();
+        assertThat(index.subscribersAt(35.10, 129.04)).containsExactly("client");
+        assertThat(index.size()).isEqualTo(1);
+
+        index.unsubscribe("client");
+        assertThat(index.subscribersAt(35.10, 129.04)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void rejectsViewportsSpanningTooManyCells() {
+        assertThatThrownBy(() -> index.subscribe("country", 33.0, 124.0, 39.0, 132.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.size()).isZero();
+    }
+}
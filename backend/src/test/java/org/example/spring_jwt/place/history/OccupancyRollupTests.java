@@ -0,0 +1,90 @@
+package org.example.spring_jwt.place.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OccupancyRollupTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void samplesWithinAnHourAreAveragedAndFoldedWhenTheHourChanges() {
+        OccupancyRollup rollup = new OccupancyRollup(0.1);
+
+        rollup.record("ME000001", 18, 1.0);
+        rollup.record("ME000001", 18, 0.0);
+        rollup.record("ME000001", 18, 0.5);
+        // 진행 중인 시간은 아직 반영 전
+        assertThat(rollup.get("ME000001")[18]).isNull();
+
+        rollup.record("ME000001", 19, 0.0);
+        assertThat(rollup.get("ME000001")[18]).isCloseTo(0.5, within(0.001));
+        assertThat(rollup.get("ME000001")[17]).isNull();
+        assertThat(rollup.get("ME000002")).isNull();
+    }
+
+    @Test
+    void eachWeekMovesTheBucketByAlphaRegardlessOfSampleCount() {
+        OccupancyRollup rollup = new OccupancyRollup(0.1);
+        // 1주차는 내내 만석, 2~3주차는 내내 비어 있음. 5분 표본 12개씩
+        week(rollup, 1.0);
+        week(rollup, 0.0);
+        assertThat(rollup.get("ME000001")[18]).isCloseTo(0.9, within(0.001));
+        week(rollup, 0.0);
+        assertThat(rollup.get("ME000001")[18]).isCloseTo(0.81, within(0.001));
+    }
+
+    @Test
+    void keepsMovingNearTheEnds() {
+        OccupancyRollup rollup = new OccupancyRollup(0.1);
+        week(rollup, 1.0);
+        // 1 byte 반올림이면 5/254 근처에서 멈추던 값이 계속 0 쪽으로 간다
+        for (int i = 0; i < 60; i++) {
+            week(rollup, 0.0);
+        }
+        assertThat(rollup.get("ME000001")[18]).isCloseTo(Math.pow(0.9, 60), within(0.0005));
+        assertThat(rollup.get("ME000001")[18]).isLessThan(5.0 / 254 / 2);
+    }
+
+    @Test
+    void convergesTowardsTheRecentWeeklyAverage() {
+        OccupancyRollup rollup = new OccupancyRollup(0.1);
+        for (int i = 0; i < 100; i++) {
+            week(rollup, i % 4 == 0 ? 1.0 : 0.0);
+        }
+        assertThat(rollup.get("ME000001")[0]).isNull();
+        assertThat(rollup.get("ME000001")[18]).isCloseTo(0.25, within(0.1));
+    }
+
+    @Test
+    void survivesWriteAndRead() throws IOException {
+        OccupancyRollup rollup = new OccupancyRollup(0.1);
+        rollup.record("ME000001", 0, 0.5);
+        rollup.record("ME000001", 1, 0.5);
+        rollup.record("ME000002", 167, 0.25);
+        rollup.record("ME000002", 0, 0.25);
+        Path file = directory.resolve("rollup.bin");
+        rollup.writeTo(file);
+
+        OccupancyRollup restored = new OccupancyRollup(0.1);
+        assertThat(restored.readFrom(file)).isEqualTo(2);
+        assertThat(restored.get("ME000001")[0]).isCloseTo(0.5, within(0.01));
+        assertThat(restored.get("ME000002")[167]).isCloseTo(0.25, within(0.01));
+        assertThat(restored.get("ME000002")[0]).isNull();
+    }
+
+    // 18시 칸에 5분 표본 12개를 넣고, 다음 시간 표본으로 반영시킨다
+    private static void week(OccupancyRollup rollup, double occupancy) {
+        for (int i = 0; i < 12; i++) {
+            rollup.record("ME000001", 18, occupancy);
+        }
+        rollup.record("ME000001", 19, 0.0);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.spring_jwt.place.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusHistoryStoreTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+    private static final Instant NOON = DAY.atTime(12, 0).atZone(KST).toInstant();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackOnlyTheRequestedStationCompactly() throws IOException {
+        try (StatusHistoryStore store = new StatusHistoryStore(directory, KST)) {
+            long t = NOON.getEpochSecond();
+            store.append(List.of(
+                    new StatusHistoryStore.Sample("ME000001", "01", t, (byte) 2),
+                    new StatusHistoryStore.Sample("ME000002", "01", t, (byte) 3)), NOON);
+            for (int i = 1; i <= 100; i++) {
+                store.append(List.of(new StatusHistoryStore.Sample("ME000001", "01", t + i * 300L,
+                        (byte) (i % 2 == 0 ? 2 : 3))), NOON);
+            }
+
+            List<StatusHistoryStore.Sample> samples = store.read("ME000001", DAY, DAY);
+            assertThat(samples).hasSize(101);
+            assertThat(samples.get(0)).isEqualTo(new StatusHistoryStore.Sample("ME000001", "01", t, (byte) 2));
+            assertThat(samples.get(100).epochSecond()).isEqualTo(t + 30_000);
+            assertThat(store.read("ME000002", DAY, DAY)).hasSize(1);
+        }
+
+        // 정의 1번 + 첫 기록 외에는 기록당 5 byte 미만
+        long bytes;
+        try (var files = Files.walk(directory)) {
+            bytes = files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+        assertThat(bytes).isLessThan(2 * 12 + 2 * 40 + 100 * 5);
+    }
+
+    @Test
+    void resumesAppendingAfterRestartAndDropsTruncatedTail() throws IOException {
+        long t = NOON.getEpochSecond();
+        try (StatusHistoryStore store = new StatusHistoryStore(directory, KST)) {
+            store.append(List.of(new StatusHistoryStore.Sample("ME000001", "01", t, (byte) 2)), NOON);
+        }
+        // 비정상 종료로 기록 중간에 잘린 꼬리
+        Path file = directory.resolve("20250310").resolve(String.format("%02d.bin", StatusHistoryStore.bucketOf("ME000001")));
+        Files.write(file, new byte[]{1, 0}, StandardOpenOption.APPEND);
+
+        try (StatusHistoryStore store = new StatusHistoryStore(directory, KST)) {
+            store.append(List.of(
+                    new StatusHistoryStore.Sample("ME000001", "01", t + 60, (byte) 3),
+                    new StatusHistoryStore.Sample("ME000001", "02", t + 90, (byte) 2)), NOON);
+
+            assertThat(store.read("ME000001", DAY, DAY)).containsExactly(
+                    new StatusHistoryStore.Sample("ME000001", "01", t, (byte) 2),
+                    new StatusHistoryStore.Sample("ME000001", "01", t + 60, (byte) 3),
+                    new StatusHistoryStore.Sample("ME000001", "02", t + 90, (byte) 2));
+        }
+    }
+
+    @Test
+    void dropsWholeDayPartitions() {
+        try (StatusHistoryStore store = new StatusHistoryStore(directory, KST)) {
+            for (int day = 0; day < 3; day++) {
+                Instant at = NOON.plusSeconds(day * 86_400L);
+                store.append(List.of(new StatusHistoryStore.Sample("ME000001", "01", at.getEpochSecond(), (byte) 2)), at);
+            }
+
+            assertThat(store.dropBefore(DAY.plusDays(2))).isEqualTo(2);
+            assertThat(store.read("ME000001", DAY, DAY.plusDays(2))).hasSize(1);
+        }
+    }
+}
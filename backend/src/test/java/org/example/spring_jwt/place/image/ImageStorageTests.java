@@ -0,0 +1,75 @@
+package org.example.spring_jwt.place.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageStorageTests {
+
+    @TempDir
+    Path root;
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void identicalUploadsShareOneContentAddressedFile() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        byte[] photo = png(10, 10);
+
+        ImageStorage.StoredImage first = storage.store(new ByteArrayInputStream(photo));
+        ImageStorage.StoredImage second = storage.store(new ByteArrayInputStream(photo));
+
+        assertThat(first.created()).isTrue();
+        assertThat(second.created()).isFalse();
+        assertThat(second.key()).isEqualTo(first.key()).hasSize(40);
+        assertThat(Files.readAllBytes(storage.resolve(first.key()))).isEqualTo(photo);
+        assertThat(storage.isImage(first.key())).isTrue();
+        try (var temps = Files.list(root.resolve("tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void rejectsNonImagesAndKeysOutsideTheStore() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        ImageStorage.StoredImage text = storage.store(new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(storage.isImage(text.key())).isFalse();
+        assertThat(storage.resolve("../../etc/passwd")).isNull();
+        assertThat(storage.resolve(text.key() + "-x.jpg")).isNull();
+    }
+
+    @Test
+    void generatesDownscaledVariants() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        ImageStorage.StoredImage photo = storage.store(new ByteArrayInputStream(png(2000, 1000)));
+        ImageVariantService variants = new ImageVariantService(storage, 1, 1, 50_000_000);
+        try {
+            variants.generate(photo.key());
+        } finally {
+            variants.destroy();
+        }
+
+        BufferedImage thumbnail = ImageIO.read(storage.resolve(ImageVariant.THUMBNAIL.key(photo.key())).toFile());
+        BufferedImage popup = ImageIO.read(storage.resolve(ImageVariant.POPUP.key(photo.key())).toFile());
+        BufferedImage full = ImageIO.read(storage.resolve(ImageVariant.FULL.key(photo.key())).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(80);
+        assertThat(popup.getWidth()).isEqualTo(640);
+        assertThat(full.getWidth()).isEqualTo(1600);
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.spring_jwt.place.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageVariantServiceTests {
+
+    @TempDir
+    Path root;
+
+    private ImageStorage storage;
+    private ImageVariantService variants;
+
+    private ImageVariantService service(long maxPixels) {
+        storage = new ImageStorage(root.toString());
+        variants = new ImageVariantService(storage, 1, 1, maxPixels);
+        return variants;
+    }
+
+    @AfterEach
+    void shutdown() {
+        variants.destroy();
+    }
+
+    @Test
+    void rejectsImagesDeclaringMorePixelsThanTheLimitBeforeDecoding() throws IOException {
+        ImageVariantService service = service(50_000_000);
+        // 몇십 byte 짜리 PNG 의 IHDR 만 30000x30000 으로 바꾼다
+        byte[] png = encode(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png");
+        ByteBuffer.wrap(png).putInt(16, 30_000).putInt(20, 30_000);
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17);
+        ByteBuffer.wrap(png).putInt(29, (int) crc.getValue());
+        String key = storage.store(new ByteArrayInputStream(png)).key();
+
+        assertThatThrownBy(() -> service.generate(key))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("30000x30000");
+        assertThat(storage.exists(ImageVariant.FULL.key(key))).isFalse();
+    }
+
+    @Test
+    void subsamplesLargeImagesWhileDecoding() throws IOException {
+        ImageVariantService service = service(50_000_000);
+        String key = storage.store(new ByteArrayInputStream(
+                encode(new BufferedImage(4000, 1000, BufferedImage.TYPE_INT_RGB), "jpg"))).key();
+
+        ImageVariantService.Decoded decoded = service.decode(storage.resolve(key).toFile());
+        service.generate(key);
+
+        assertThat(decoded.image().getWidth()).isEqualTo(2000);
+        BufferedImage full = ImageIO.read(storage.resolve(ImageVariant.FULL.key(key)).toFile());
+        assertThat(full.getWidth()).isEqualTo(1600);
+        assertThat(full.getHeight()).isEqualTo(400);
+    }
+
+    @Test
+    void rotatesVariantsByExifOrientation() throws IOException {
+        ImageVariantService service = service(50_000_000);
+        // 가로 200x100 으로 저장된 세로 사진 (Orientation 6: 시계 방향 90도). 왼쪽 절반이 빨강
+        BufferedImage landscape = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = landscape.createGraphics();
+        g.setColor(Color.BLUE);
+        g.fillRect(0, 0, 200, 100);
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 100, 100);
+        g.dispose();
+        String key = storage.store(new ByteArrayInputStream(withOrientation(encode(landscape, "jpg"), 6))).key();
+
+        service.generate(key);
+
+        BufferedImage full = ImageIO.read(storage.resolve(ImageVariant.FULL.key(key)).toFile());
+        assertThat(full.getWidth()).isEqualTo(100);
+        assertThat(full.getHeight()).isEqualTo(200);
+        // 돌리면 왼쪽(빨강)이 위로 간다
+        assertThat(new Color(full.getRGB(50, 20)).getRed()).isGreaterThan(200);
+        assertThat(new Color(full.getRGB(50, 180)).getBlue()).isGreaterThan(200);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    // JFIF APP0 뒤에 Orientation 하나만 있는 APP1(Exif) 을 끼워 넣는다
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        ByteBuffer exif = ByteBuffer.allocate(36);
+        exif.put((byte) 0xFF).put((byte) 0xE1).putShort((short) 34);
+        exif.put("Exif\0\0".getBytes(StandardCharsets.ISO_8859_1));
+        exif.put("MM".getBytes(StandardCharsets.ISO_8859_1)).putShort((short) 42).putInt(8);
+        exif.putShort((short) 1);
+        exif.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        exif.putInt(0);
+
+        int afterApp0 = 4 + ByteBuffer.wrap(jpeg).getShort(4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, afterApp0);
+        out.writeBytes(exif.array());
+        out.write(jpeg, afterApp0, jpeg.length - afterApp0);
+        return out.toByteArray();
+    }
+}
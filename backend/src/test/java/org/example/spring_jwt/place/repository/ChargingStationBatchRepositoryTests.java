@@ -0,0 +1,91 @@
+package org.example.spring_jwt.place.repository;
+
+import org.example.spring_jwt.place.dto.UpsertResult;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시에 쓰는 두 페이지가 같은 충전소를 넣을 때 (H2, 트랜잭션을 실제로 나눠서)
+class ChargingStationBatchRepositoryTests {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createTable() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE charging_station (
+                    station_id VARCHAR(255) PRIMARY KEY, name VARCHAR(255), address VARCHAR(255),
+                    latitude DOUBLE, longitude DOUBLE, operator_name VARCHAR(255), operator_tel VARCHAR(255),
+                    zcode VARCHAR(255), content_hash VARCHAR(255))
+                """);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void stationSplitAcrossConcurrentPagesIsWrittenOnce() {
+        // 이 chunk 가 기존 행을 읽은 직후, 다른 페이지가 같은 충전소(뒤쪽 충전기)를 먼저 커밋한다
+        AtomicBoolean otherPageWrote = new AtomicBoolean();
+        ChargingStationBatchRepository otherPage = repository(new NamedParameterJdbcTemplate(dataSource));
+        NamedParameterJdbcTemplate racing = new NamedParameterJdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, SqlParameterSource paramSource, RowCallbackHandler rch) {
+                super.query(sql, paramSource, rch);
+                if (otherPageWrote.compareAndSet(false, true)) {
+                    try (ExecutorService other = Executors.newSingleThreadExecutor()) {
+                        other.submit(() -> otherPage.upsert(List.of(station("ME000002")))).get();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        };
+        ChargingStationBatchRepository thisPage = repository(racing);
+
+        UpsertResult result = thisPage.upsert(List.of(station("ME000001"), station("ME000002")));
+
+        assertThat(otherPageWrote).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM charging_station", Integer.class)).isEqualTo(2);
+        // 다시 읽은 chunk 에서 ME000002 는 이미 같은 내용으로 있다
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+    }
+
+    private ChargingStationBatchRepository repository(NamedParameterJdbcTemplate template) {
+        return new ChargingStationBatchRepository(template,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    private static ChargingStationEntity station(String id) {
+        ChargingStationEntity station = new ChargingStationEntity();
+        station.setStationId(id);
+        station.setName("station " + id);
+        station.setLatitude(37.5);
+        station.setLongitude(127.0);
+        station.setZcode("11");
+        return station;
+    }
+}
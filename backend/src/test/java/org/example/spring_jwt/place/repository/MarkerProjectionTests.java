@@ -0,0 +1,99 @@
+package org.example.spring_jwt.place.repository;
+
+import org.example.spring_jwt.entity.UserEntity;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+import org.example.spring_jwt.place.entity.PlaceEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주변 조회 projection 이 엔티티 없이 필요한 컬럼을 제대로 채우는지 (H2)
+@DataJpaTest
+class MarkerProjectionTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private ChargingStationRepository stationRepository;
+
+    @Test
+    void nearbyPlacesProjectOnlyMapColumnsIncludingUserId() {
+        UserEntity user = new UserEntity();
+        user.setUsername("owner");
+        user.setRole("ROLE_USER");
+        entityManager.persist(user);
+        PlaceEntity near = place("near", 37.5000, 127.0000, user);
+        place("far", 37.5200, 127.0000, user);
+        place("outside", 35.1000, 129.0000, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PlaceMarkerView> places = placeRepository.findNearbyPlaces(37.5, 127.0, 30,
+                37.2, 37.8, 126.6, 127.4);
+
+        assertThat(places).extracting(PlaceMarkerView::getPlaceTitle).containsExactly("near", "far");
+        PlaceMarkerView first = places.get(0);
+        assertThat(first.getId()).isEqualTo(near.getId());
+        assertThat(first.getUserId()).isEqualTo(user.getId());
+        assertThat(first.getPlaceImageURL()).isEqualTo("/images/near.jpg");
+        assertThat(first.getPerPrice()).isEqualTo(1000);
+        assertThat(first.getPlayTime()).isEqualTo("09-18");
+        assertThat(first.getCharType()).isEqualTo("DC");
+        assertThat(first.getMaxCar()).isEqualTo("2");
+
+        List<PlaceMarkerView> page = placeRepository.findNearestPlaces(37.5, 127.0, 30,
+                37.2, 37.8, 126.6, 127.4, 1);
+        assertThat(page).extracting(PlaceMarkerView::getPlaceTitle).containsExactly("near");
+        assertThat(placeRepository.findNearestPlacesAfter(37.5, 127.0, 30,
+                37.2, 37.8, 126.6, 127.4, page.get(0).getId(), 1))
+                .extracting(PlaceMarkerView::getPlaceTitle).containsExactly("far");
+        assertThat(placeRepository.findPlacesInBounds(37.4, 126.9, 37.6, 127.1, 37.5, 127.0, 1))
+                .extracting(PlaceMarkerView::getPlaceTitle).containsExactly("near");
+        assertThat(placeRepository.findAllMarkers()).hasSize(3);
+    }
+
+    @Test
+    void nearbyStationsProjectMapColumns() {
+        ChargingStationEntity station = new ChargingStationEntity();
+        station.setStationId("ME000001");
+        station.setName("station");
+        station.setAddress("address");
+        station.setLatitude(37.5);
+        station.setLongitude(127.0);
+        station.setOperatorName("operator");
+        station.setOperatorTel("1588-0000");
+        entityManager.persistAndFlush(station);
+
+        List<StationMarkerView> stations = stationRepository.findNearbyCharPlaces(37.5, 127.0, 30,
+                37.2, 37.8, 126.6, 127.4);
+
+        assertThat(stations).hasSize(1);
+        StationMarkerView view = stations.get(0);
+        assertThat(view.getStationId()).isEqualTo("ME000001");
+        assertThat(view.getName()).isEqualTo("station");
+        assertThat(view.getLatitude()).isEqualTo(37.5);
+        assertThat(view.getOperatorTel()).isEqualTo("1588-0000");
+        assertThat(stationRepository.findCharPlacesInBounds(37.4, 126.9, 37.6, 127.1, 37.5, 127.0, 10)).hasSize(1);
+    }
+
+    private PlaceEntity place(String title, double lat, double lng, UserEntity user) {
+        PlaceEntity place = new PlaceEntity();
+        place.setPlaceTitle(title);
+        place.setLatitude(lat);
+        place.setLongitude(lng);
+        place.setPlaceImageURL("/images/" + title + ".jpg");
+        place.setPer_price(1000);
+        place.setPlay_time("09-18");
+        place.setChar_type("DC");
+        place.setMax_car("2");
+        place.setUser(user);
+        return entityManager.persist(place);
+    }
+}
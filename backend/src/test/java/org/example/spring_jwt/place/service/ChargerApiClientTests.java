@@ -0,0 +1,101 @@
+package org.example.spring_jwt.place.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChargerApiClientTests {
+
+    private final ChargerApiClient client = new ChargerApiClient("http://localhost", "test-key", new SimpleMeterRegistry(), 1, 1000);
+
+    @Test
+    void readItemsStreamsEachItemAndReturnsTotalCount() throws Exception {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <response>
+                  <header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>
+                  <body>
+                    <items>
+                      <item><statNm>강남역</statNm><statId>ME000001</statId><chgerId>01</chgerId><lat>37.4979</lat><lng>127.0276</lng></item>
+                      <item><statNm>강남역</statNm><statId>ME000001</statId><chgerId>02</chgerId><lat>37.4979</lat><lng>127.0276</lng></item>
+                    </items>
+                    <numOfRows>9999</numOfRows><pageNo>1</pageNo><totalCount>2</totalCount>
+                  </body>
+                </response>
+                """;
+        List<Map<String, String>> items = new ArrayList<>();
+
+        int totalCount = client.readItems(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), items::add);
+
+        assertThat(totalCount).isEqualTo(2);
+        assertThat(items).hasSize(2);
+        assertThat(items.get(1)).containsEntry("statId", "ME000001").containsEntry("chgerId", "02").containsEntry("statNm", "강남역");
+    }
+
+    @Test
+    void readItemsFailsOnErrorResultCode() {
+        String xml = """
+                <response><header><resultCode>30</resultCode><resultMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</resultMsg></header></response>
+                """;
+
+        assertThatThrownBy(() -> client.readItems(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), item -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SERVICE_KEY_IS_NOT_REGISTERED_ERROR");
+    }
+
+    @Test
+    void limitsConcurrentRequestsToTheApi() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getChargerStatus", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "<response><header><resultCode>00</resultCode></header><body><totalCount>0</totalCount></body></response>"
+                    .getBytes(StandardCharsets.UTF_8);
+            inFlight.decrementAndGet();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        ExecutorService serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.start();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            ChargerApiClient limited = new ChargerApiClient("http://127.0.0.1:" + server.getAddress().getPort(), "test-key",
+                    new SimpleMeterRegistry(), 2, 5000);
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                calls.add(callers.submit(() -> limited.fetchItems("getChargerStatus", Map.of("zcode", "11"), item -> { })));
+            }
+            for (Future<Integer> call : calls) {
+                assertThat(call.get()).isZero();
+            }
+        } finally {
+            server.stop(0);
+            serverThreads.shutdownNow();
+        }
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+}
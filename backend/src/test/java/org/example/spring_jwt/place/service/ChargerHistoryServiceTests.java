@@ -0,0 +1,96 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.OccupancyDTO;
+import org.example.spring_jwt.place.history.StatusHistoryStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChargerHistoryServiceTests {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @TempDir
+    Path directory;
+
+    private static long at(LocalDate day, int hour) {
+        return day.atTime(hour, 0).atZone(KST).toEpochSecond();
+    }
+
+    private static StatusHistoryStore.Sample sample(String chgerId, long at, int stat) {
+        return new StatusHistoryStore.Sample("ME000001", chgerId, at, (byte) stat);
+    }
+
+    @Test
+    void splitsChargingTimeAcrossDaysAndIgnoresUnavailableChargers() {
+        List<StatusHistoryStore.Sample> samples = List.of(
+                // 전날부터 대기 → 첫날 06시~18시 충전 → 대기
+                sample("01", at(DAY.minusDays(1), 20), 2),
+                sample("01", at(DAY, 6), 3),
+                sample("01", at(DAY, 18), 2),
+                // 점검중 충전기는 관측 시간에서 제외
+                sample("02", at(DAY.minusDays(1), 20), 5));
+        Instant end = DAY.plusDays(1).atTime(12, 0).atZone(KST).toInstant();
+
+        OccupancyDTO occupancy = ChargerHistoryService.occupancy("ME000001", samples, DAY, 2, end, KST);
+
+        assertThat(occupancy.getChargerCount()).isEqualTo(2);
+        assertThat(occupancy.getDaily()).hasSize(2);
+        assertThat(occupancy.getDaily().get(0).getObservedMinutes()).isEqualTo(24 * 60);
+        assertThat(occupancy.getDaily().get(0).getOccupancyRate()).isEqualTo(0.5);
+        assertThat(occupancy.getDaily().get(1).getObservedMinutes()).isEqualTo(12 * 60);
+        assertThat(occupancy.getDaily().get(1).getOccupancyRate()).isZero();
+        assertThat(occupancy.getOccupancyRate()).isEqualTo(12.0 / 36);
+    }
+
+    @Test
+    void noObservationsHaveNoRate() {
+        OccupancyDTO occupancy = ChargerHistoryService.occupancy("ME000001", List.of(), DAY, 7,
+                DAY.plusDays(7).atStartOfDay(KST).toInstant(), KST);
+
+        assertThat(occupancy.getOccupancyRate()).isNull();
+        assertThat(occupancy.getDaily()).allSatisfy(day -> assertThat(day.getOccupancyRate()).isNull());
+    }
+
+    @Test
+    void chargersWhoseStateNeverChangesAreCountedFromDailySnapshots() {
+        // 한달 전부터 01 은 계속 대기, 02 는 계속 충전중. 기간 안에는 변경이 한번도 없다
+        LocalDate today = LocalDate.now(KST);
+        long monthAgo = at(today.minusDays(30), 9);
+        ChargerStatusService statusService = mock(ChargerStatusService.class);
+        when(statusService.isLoaded()).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<ChargerStatusService.Change> visitor = invocation.getArgument(0);
+            visitor.accept(new ChargerStatusService.Change("ME000001", "01", (byte) 2, monthAgo));
+            visitor.accept(new ChargerStatusService.Change("ME000001", "02", (byte) 3, monthAgo));
+            return null;
+        }).when(statusService).forEachCharger(any());
+        ChargerHistoryService service = new ChargerHistoryService(directory.toString(), 35, statusService);
+        for (int daysAgo = 2; daysAgo >= 0; daysAgo--) {
+            Instant midnight = today.minusDays(daysAgo).atStartOfDay(KST).plusSeconds(5).toInstant();
+            service.snapshotIfNewDay(midnight);
+            // 같은 날 두번째는 쓰지 않는다
+            service.snapshotIfNewDay(midnight.plusSeconds(60));
+        }
+
+        OccupancyDTO occupancy = service.getOccupancy("ME000001", 2);
+        service.destroy();
+
+        assertThat(occupancy.getChargerCount()).isEqualTo(2);
+        assertThat(occupancy.getDaily().get(0).getObservedMinutes()).isEqualTo(2 * 24 * 60);
+        assertThat(occupancy.getDaily().get(0).getOccupancyRate()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.ChargerStatusDTO;
+import org.example.spring_jwt.place.dto.StationStatusDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChargerStatusServiceTests {
+
+    private ChargerStatusService service;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        StationIngestionService ingestionService = mock(StationIngestionService.class);
+        when(ingestionService.getZcodes()).thenReturn(List.of("11"));
+        service = new ChargerStatusService(mock(ChargerApiClient.class), ingestionService,
+                mock(ObjectProvider.class), true, 9999);
+    }
+
+    @Test
+    void keepsLatestStatusPerCharger() {
+        assertThat(service.update("ME000001", "01", "2", "20250101120000")).isNotNull();
+        assertThat(service.update("ME000001", "02", "3", "20250101120000")).isNotNull();
+        assertThat(service.update("ME000001", "01", "3", "20250101121000")).isNotNull();
+
+        StationStatusDTO status = service.getStationStatus("ME000001");
+        assertThat(status.getChargers()).extracting(ChargerStatusDTO::getChgerId).containsExactly("01", "02");
+        assertThat(status.getChargers()).extracting(ChargerStatusDTO::getStat).containsExactly("3", "3");
+        assertThat(status.getChargers().get(0).getStatUpdDt()).isEqualTo("20250101121000");
+        assertThat(service.getStationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresStaleAndDuplicateUpdates() {
+        service.update("ME000001", "01", "3", "20250101121000");
+
+        assertThat(service.update("ME000001", "01", "2", "20250101120000")).isNull();
+        assertThat(service.update("ME000001", "01", "3", "20250101121000")).isNull();
+        assertThat(service.getStationStatus("ME000001").getChargers().get(0).getStat()).isEqualTo("3");
+    }
+
+    @Test
+    void sameStatusWithLaterTimestampIsNotAChange() {
+        service.update("ME000001", "01", "3", "20250101121000");
+
+        assertThat(service.update("ME000001", "01", "3", "20250101123000")).isNull();
+        assertThat(service.getStationStatus("ME000001").getChargers().get(0).getStatUpdDt())
+                .isEqualTo("20250101121000");
+        assertThat(service.update("ME000001", "01", "2", "20250101124000")).isNotNull();
+    }
+
+    @Test
+    void unknownStationHasNoChargers() {
+        StationStatusDTO status = service.getStationStatus("NOPE");
+        assertThat(status.getStatId()).isEqualTo("NOPE");
+        assertThat(status.getChargers()).isEmpty();
+    }
+
+    @Test
+    void changeWindowCoversTimeSinceLastPollWithOverlap() {
+        Instant now = Instant.parse("2025-03-10T03:00:00Z");
+
+        // 처음에는 전체
+        assertThat(ChargerStatusService.periodMinutes(null, now)).isNull();
+        // 5분 주기라도 1분을 겹쳐 받는다
+        assertThat(ChargerStatusService.periodMinutes(now.minusSeconds(300), now)).isEqualTo(6);
+        // 지난 조회가 오래 걸려 7분 20초 만이면 9분
+        assertThat(ChargerStatusService.periodMinutes(now.minusSeconds(440), now)).isEqualTo(9);
+        // 짧아도 최소 5분
+        assertThat(ChargerStatusService.periodMinutes(now.minusSeconds(30), now)).isEqualTo(5);
+        // API 최대 범위(10분)보다 오래 비었으면 다시 전체
+        assertThat(ChargerStatusService.periodMinutes(now.minusSeconds(900), now)).isNull();
+    }
+}
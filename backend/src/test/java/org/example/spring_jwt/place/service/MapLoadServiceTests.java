@@ -0,0 +1,74 @@
+package org.example.spring_jwt.place.service;
+
+import org.example.spring_jwt.place.dto.ChargingDTO;
+import org.example.spring_jwt.place.dto.LoadAllPlaceDTO;
+import org.example.spring_jwt.place.dto.LoadCharPlaceDTO;
+import org.example.spring_jwt.place.dto.LoadPlaceDTO;
+import org.example.spring_jwt.place.dto.PlaceDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MapLoadServiceTests {
+
+    private final PlaceService placeService = mock(PlaceService.class);
+    private final ChargingService chargingService = mock(ChargingService.class);
+    private final MapLoadService service = new MapLoadService(placeService, chargingService);
+
+    @Test
+    void runsBothLookupsConcurrently() {
+        // 두 조회가 서로를 기다리게 해서, 차례로 돌면 시간 초과로 빈 결과가 나온다
+        CountDownLatch started = new CountDownLatch(2);
+        LoadPlaceDTO places = new LoadPlaceDTO();
+        places.setPoi(List.of(new PlaceDTO()));
+        LoadCharPlaceDTO stations = new LoadCharPlaceDTO();
+        stations.setPoi(List.of(new ChargingDTO(), new ChargingDTO()));
+        when(placeService.findNearbyLocations(37.5, 127.0)).thenAnswer(invocation -> awaitBoth(started, places));
+        when(chargingService.findCharNearbyLocations(37.5, 127.0)).thenAnswer(invocation -> awaitBoth(started, stations));
+
+        LoadAllPlaceDTO response = service.loadNearby(37.5, 127.0);
+
+        assertThat(response.getPlacePoi()).hasSize(1);
+        assertThat(response.getCharPoi()).hasSize(2);
+    }
+
+    @Test
+    void failureCancelsTheOtherLookup() {
+        // 충전소 조회가 시작된 뒤에 장소 조회가 실패해야 취소(interrupt)를 확인할 수 있다
+        CountDownLatch stationStarted = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when(placeService.findNearbyLocations(37.5, 127.0)).thenAnswer(invocation -> {
+            stationStarted.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("db down");
+        });
+        when(chargingService.findCharNearbyLocations(37.5, 127.0)).thenAnswer(invocation -> {
+            stationStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return new LoadCharPlaceDTO();
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.loadNearby(37.5, 127.0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+        assertThat(interrupted).isTrue();
+    }
+
+    private static <T> T awaitBoth(CountDownLatch started, T result) throws InterruptedException {
+        started.countDown();
+        return started.await(5, TimeUnit.SECONDS) ? result : null;
+    }
+}
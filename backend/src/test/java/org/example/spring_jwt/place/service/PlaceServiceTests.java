@@ -0,0 +1,94 @@
+package org.example.spring_jwt.place.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.spring_jwt.dto.CustomUserDetails;
+import org.example.spring_jwt.entity.UserEntity;
+import org.example.spring_jwt.place.dto.PlaceDTO;
+import org.example.spring_jwt.place.entity.PlaceEntity;
+import org.example.spring_jwt.place.repository.PlaceRepository;
+import org.example.spring_jwt.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 장소 등록의 클러스터/주변 캐시 반영은 커밋된 뒤에만
+class PlaceServiceTests {
+
+    private PlaceRepository placeRepository;
+    private ClusterService clusterService;
+    private PlaceService service;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        clusterService = mock(ClusterService.class);
+        service = new PlaceService(mock(UserRepository.class), placeRepository, clusterService,
+                new QueryMetrics(new SimpleMeterRegistry(), 100));
+        when(placeRepository.findNearbyPlaces(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble())).thenReturn(List.of());
+
+        UserEntity user = new UserEntity();
+        user.setId(1);
+        user.setUsername("owner");
+        user.setRole("ROLE_USER");
+        CustomUserDetails principal = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void clusterAndNearbyCacheAreUpdatedOnlyAfterCommit() {
+        service.findNearbyLocations(37.5, 127.0);
+
+        service.addPlaceProcess(place());
+        // 커밋 전: 캐시는 그대로, 클러스터에도 아직 없음
+        service.findNearbyLocations(37.5, 127.0);
+        verify(clusterService, never()).placeUpdated(any());
+        verify(placeRepository, times(1)).findNearbyPlaces(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(clusterService).placeUpdated(any(PlaceEntity.class));
+        service.findNearbyLocations(37.5, 127.0);
+        verify(placeRepository, times(2)).findNearbyPlaces(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void rollbackLeavesClusterAndCacheUntouched() {
+        service.addPlaceProcess(place());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verify(clusterService, never()).placeUpdated(any());
+    }
+
+    private static PlaceDTO place() {
+        PlaceDTO dto = new PlaceDTO();
+        dto.setPlaceTitle("new place");
+        dto.setLatitude(37.5);
+        dto.setLongitude(127.0);
+        return dto;
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.spring_jwt.place.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.spring_jwt.place.dto.UpsertResult;
+import org.example.spring_jwt.place.entity.ChargingStationEntity;
+import org.example.spring_jwt.place.entity.IngestionCheckpointEntity;
+import org.example.spring_jwt.place.repository.ChargerBatchRepository;
+import org.example.spring_jwt.place.repository.ChargingStationBatchRepository;
+import org.example.spring_jwt.place.repository.IngestionCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// data.go.kr getChargerInfo 를 흉내내는 로컬 stub 서버로 적재 엔진 검증
+class StationIngestionServiceTests {
+
+    private static final int ROWS_PER_PAGE = 3;
+    private static final int STATIONS_PER_REGION = 7;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+    private final Map<String, IngestionCheckpointEntity> checkpoints = new ConcurrentHashMap<>();
+    private final Set<String> written = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getChargerInfo", exchange -> {
+            requests.incrementAndGet();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String zcode = query.get("zcode");
+            int pageNo = Integer.parseInt(query.get("pageNo"));
+
+            // 경기도 2 페이지는 처음 한번 503
+            if (zcode.equals("41") && pageNo == 2 && failedOnce.add(zcode + ":" + pageNo)) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+
+            StringBuilder xml = new StringBuilder("<response><header><resultCode>00</resultCode></header><body><items>");
+            for (int i = (pageNo - 1) * ROWS_PER_PAGE; i < Math.min(STATIONS_PER_REGION, pageNo * ROWS_PER_PAGE); i++) {
+                xml.append("<item><statId>").append(zcode).append("-").append(i).append("</statId>")
+                        .append("<statNm>station</statNm><lat>37.5</lat><lng>127.0</lng></item>");
+            }
+            xml.append("</items><totalCount>").append(STATIONS_PER_REGION).append("</totalCount></body></response>");
+
+            byte[] body = xml.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private final ChargingStationBatchRepository batchRepository = mock(ChargingStationBatchRepository.class);
+    private final ChargerBatchRepository chargerBatchRepository = mock(ChargerBatchRepository.class);
+    private final StationIngestionService.Listener listener = mock(StationIngestionService.Listener.class);
+
+    private StationIngestionService service() {
+        when(batchRepository.upsert(anyList())).thenAnswer(invocation -> {
+            List<ChargingStationEntity> stations = invocation.getArgument(0);
+            UpsertResult result = new UpsertResult();
+            stations.forEach(station -> {
+                written.add(station.getStationId());
+                result.addInserted(station);
+            });
+            return result;
+        });
+        IngestionCheckpointRepository checkpointRepository = mock(IngestionCheckpointRepository.class);
+        when(checkpointRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(checkpoints.get((String) invocation.getArgument(0))));
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+            IngestionCheckpointEntity checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getZcode(), checkpoint);
+            return checkpoint;
+        });
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChargerApiClient client = new ChargerApiClient("http://127.0.0.1:" + server.getAddress().getPort(), "test-key",
+                meterRegistry, 2, 5000);
+        return new StationIngestionService(client, batchRepository, chargerBatchRepository, checkpointRepository,
+                meterRegistry, List.of("11", "41"), 2, 3, 10, ROWS_PER_PAGE);
+    }
+
+    @Test
+    void ingestsAllPagesOfAllRegionsAndRetriesTransientFailures() {
+        AtomicInteger changed = new AtomicInteger();
+
+        UpsertResult result = service().ingest(new StationIngestionService.Listener() {
+            @Override
+            public void stationsChanged(List<ChargingStationEntity> stations) {
+                changed.addAndGet(stations.size());
+            }
+
+            @Override
+            public void stationsRemoved(List<String> stationIds) {
+            }
+        });
+
+        assertThat(result.getInserted()).isEqualTo(2 * STATIONS_PER_REGION);
+        assertThat(changed.get()).isEqualTo(2 * STATIONS_PER_REGION);
+        assertThat(written).hasSize(2 * STATIONS_PER_REGION);
+        // 3 페이지 x 2 지역 + 503 재시도 1번
+        assertThat(requests.get()).isEqualTo(7);
+        assertThat(checkpoints.get("41").isCompleted()).isTrue();
+        assertThat(checkpoints.get("41").getLastCompletedPage()).isEqualTo(3);
+    }
+
+    @Test
+    void expiresStationsMissingFromAFullRegionRun() {
+        when(batchRepository.findStationIdsByZcode("11")).thenReturn(List.of("11-0", "11-1", "11-gone"));
+        List<String> removed = new ArrayList<>();
+
+        UpsertResult result = service().ingest(List.of("11"), new StationIngestionService.Listener() {
+            @Override
+            public void stationsChanged(List<ChargingStationEntity> stations) {
+            }
+
+            @Override
+            public void stationsRemoved(List<String> stationIds) {
+                removed.addAll(stationIds);
+            }
+        });
+
+        assertThat(result.getRemoved()).isEqualTo(1);
+        assertThat(removed).containsExactly("11-gone");
+        verify(batchRepository).deleteByIds(List.of("11-gone"));
+        verify(chargerBatchRepository).deleteByStationIds(List.of("11-gone"));
+    }
+
+    @Test
+    void resumesFromCheckpointOfInterruptedRun() {
+        IngestionCheckpointEntity interrupted = new IngestionCheckpointEntity();
+        interrupted.setZcode("11");
+        interrupted.setLastCompletedPage(2);
+        interrupted.setTotalPages(3);
+        interrupted.setCompleted(false);
+        checkpoints.put("11", interrupted);
+
+        UpsertResult result = service().ingest(List.of("11"), listener);
+
+        // 3 페이지만 다시 받고, 앞 페이지를 보지 못했으므로 만료 처리는 하지 않는다
+        assertThat(requests.get()).isEqualTo(1);
+        verify(batchRepository, never()).findStationIdsByZcode(any());
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(checkpoints.get("11").isCompleted()).isTrue();
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new ConcurrentHashMap<>();
+        for (String pair : query.split("&")) {
+            String[] kv = pair.split("=", 2);
+            params.put(kv[0], kv.length > 1 ? kv[1] : "");
+        }
+        return params;
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.spring_jwt.place.upload;
+
+import org.example.spring_jwt.place.image.ImageStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingUploadReaderTests {
+
+    private static final String BOUNDARY = "----test-boundary";
+
+    @TempDir
+    Path root;
+
+    private static byte[] png() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static MockHttpServletRequest multipart(String title, byte[] file) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"placeTitle\"\r\n\r\n"
+                + title + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"placeImageURL\"; filename=\"photo.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(file);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/place/add");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.toByteArray());
+        return request;
+    }
+
+    private long storedFiles() throws IOException {
+        try (var files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void streamsFieldsAndImageIntoStorage() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        StreamingUploadReader reader = new StreamingUploadReader(storage, 1 << 20, 2 << 20, 2);
+        byte[] photo = png();
+
+        StreamingUploadReader.Upload upload = reader.read(multipart("우리집 충전기", photo), "placeImageURL");
+
+        assertThat(upload.fields()).containsEntry("placeTitle", "우리집 충전기");
+        assertThat(upload.image().created()).isTrue();
+        assertThat(Files.readAllBytes(storage.resolve(upload.image().key()))).isEqualTo(photo);
+        assertThat(reader.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsOversizedFilesWithoutKeepingThem() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        StreamingUploadReader perFile = new StreamingUploadReader(storage, 100, 1 << 20, 2);
+        StreamingUploadReader perRequest = new StreamingUploadReader(storage, 1 << 20, 200, 2);
+        byte[] large = new byte[10_000];
+
+        assertThatThrownBy(() -> perFile.read(multipart("a", large), "placeImageURL"))
+                .isInstanceOfSatisfying(StreamingUploadReader.UploadRejectedException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        assertThatThrownBy(() -> perRequest.read(multipart("a", large), "placeImageURL"))
+                .isInstanceOfSatisfying(StreamingUploadReader.UploadRejectedException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        assertThat(storedFiles()).isZero();
+        assertThat(perFile.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsUploadsBeyondConcurrencyLimit() {
+        ImageStorage storage = new ImageStorage(root.toString());
+        StreamingUploadReader reader = new StreamingUploadReader(storage, 1 << 20, 2 << 20, 0);
+
+        assertThatThrownBy(() -> reader.read(multipart("a", png()), "placeImageURL"))
+                .isInstanceOfSatisfying(StreamingUploadReader.UploadRejectedException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    @Test
+    void rejectsOversizedPartHeaders() throws IOException {
+        ImageStorage storage = new ImageStorage(root.toString());
+        StreamingUploadReader reader = new StreamingUploadReader(storage, 1 << 20, 2 << 20, 2);
+        // 본문은 작아도 part 헤더만 100KB
+        byte[] body = ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"placeImageURL\"; filename=\"photo.png\"\r\n"
+                + "X-Padding: " + "a".repeat(100_000) + "\r\n"
+                + "Content-Type: image/png\r\n\r\n"
+                + "x\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/place/add");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body);
+
+        assertThatThrownBy(() -> reader.read(request, "placeImageURL"))
+                .isInstanceOfSatisfying(StreamingUploadReader.UploadRejectedException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        assertThat(storedFiles()).isZero();
+        assertThat(reader.getInFlight()).isZero();
+    }
+}
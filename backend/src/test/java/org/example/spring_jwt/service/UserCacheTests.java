@@ -0,0 +1,56 @@
+package org.example.spring_jwt.service;
+
+import org.example.spring_jwt.entity.UserEntity;
+import org.example.spring_jwt.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private static UserEntity user(int id, String role) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setUsername("user");
+        user.setPassword("hash");
+        user.setRole(role);
+        return user;
+    }
+
+    @Test
+    void servesRepeatLookupsFromMemoryUntilInvalidated() {
+        when(userRepository.findByUsername("user")).thenReturn(user(7, "ROLE_USER"), user(7, "ROLE_ADMIN"));
+        UserCache cache = new UserCache(userRepository, 60_000, 100);
+
+        assertThat(cache.findByUsername("user").getId()).isEqualTo(7);
+        assertThat(cache.findByUsername("user").getRole()).isEqualTo("ROLE_USER");
+        verify(userRepository, times(1)).findByUsername("user");
+
+        cache.invalidate("user");
+        assertThat(cache.findByUsername("user").getRole()).isEqualTo("ROLE_ADMIN");
+    }
+
+    @Test
+    void reloadsAfterTtlSoDeletedAccountsDropOut() {
+        when(userRepository.findByUsername("user")).thenReturn(user(7, "ROLE_USER"), (UserEntity) null);
+        UserCache cache = new UserCache(userRepository, 0, 100);
+
+        assertThat(cache.findByUsername("user")).isNotNull();
+        assertThat(cache.findByUsername("user")).isNull();
+    }
+
+    @Test
+    void returnsCopiesSoCallersCannotChangeTheCache() {
+        when(userRepository.findByUsername("user")).thenReturn(user(7, "ROLE_USER"));
+        UserCache cache = new UserCache(userRepository, 60_000, 100);
+
+        cache.findByUsername("user").setRole("ROLE_ADMIN");
+        assertThat(cache.findByUsername("user").getRole()).isEqualTo("ROLE_USER");
+    }
+}
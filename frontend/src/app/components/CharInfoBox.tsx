@@ -21,7 +21,6 @@ interface CharInfoBoxProps {
 }
 
 interface ChargerStatusItem {
-    busiId: string;
     statId: string;
     chgerId: string;
     stat: string;
@@ -42,59 +41,18 @@ const CharInfoBox: React.FC<CharInfoBoxProps> = ({ charPoi}) => { // onMoreClick
             setErrorStatus(null);
 
             try {
-                const rawServiceKey = '7XHVzTXkVRP6Vh6jOHyYyvRMo9LhW07VUbz1ucZcQuLoPDf33tTIuUqiwcdo4Nss2+FCovzJsGE2aWTQycbIaw=='; // <<-- 이 부분 확인 및 교체 필수!
-                const serviceKey = encodeURIComponent(rawServiceKey);
-
-                const statId = charPoi.statId;
-
-                let queryParams = '';
-                queryParams += '?' + encodeURIComponent('serviceKey') + '=' + serviceKey;
-                queryParams += '&' + encodeURIComponent('statId') + '=' + encodeURIComponent(statId);
-                queryParams += '&' + encodeURIComponent('pageNo') + '=' + encodeURIComponent('1');
-                queryParams += '&' + encodeURIComponent('numOfRows') + '=' + encodeURIComponent('9999');
-                queryParams += '&' + encodeURIComponent('period') + '=' + encodeURIComponent('5');
-
-                const requestUrl = 'http://apis.data.go.kr/B552584/EvCharger/getChargerStatus' + queryParams;
-
-                console.log("충전기 상태 API 요청 URL:", requestUrl);
-
-                const response = await fetch(requestUrl);
-                const responseText = await response.text();
-                console.log("API Raw XML 응답:", responseText);
-
-                const parser = new DOMParser();
-                const xmlDoc = parser.parseFromString(responseText, "text/xml");
-
-                const resultCodeElement = xmlDoc.querySelector("response > header > resultCode");
-                const resultMsgElement = xmlDoc.querySelector("response > header > resultMsg");
-
-                const resultCode = resultCodeElement?.textContent;
-                const resultMsg = resultMsgElement?.textContent;
-
-                if (resultCode === '00') {
-                    const items: ChargerStatusItem[] = [];
-                    const itemNodes = xmlDoc.querySelectorAll("response > body > items > item");
-
-                    if (itemNodes.length > 0) {
-                        itemNodes.forEach(itemNode => {
-                            const busiId = itemNode.querySelector("busiId")?.textContent || '';
-                            const statId_ = itemNode.querySelector("statId")?.textContent || '';
-                            const chgerId = itemNode.querySelector("chgerId")?.textContent || '';
-                            const stat = itemNode.querySelector("stat")?.textContent || '';
-                            const statUpdDt = itemNode.querySelector("statUpdDt")?.textContent || '';
-
-                            items.push({ busiId, statId: statId_, chgerId, stat, statUpdDt });
-                        });
-                    }
-                    setChargerStatus(items);
-
-                } else {
-                    setErrorStatus(`API 오류: ${resultMsg || '알 수 없는 오류'} (코드: ${resultCode || '알 수 없음'})`);
+                // 충전기 상태는 백엔드가 주기적으로 받아 메모리에 들고 있음
+                const response = await fetch(`/api/char_status?statId=${encodeURIComponent(charPoi.statId)}`);
+                if (!response.ok) {
+                    setErrorStatus(`서버 오류 (코드: ${response.status})`);
                     setChargerStatus([]);
+                    return;
                 }
+                const data: { statId: string; chargers: ChargerStatusItem[] } = await response.json();
+                setChargerStatus(data.chargers);
             } catch (error) {
-                console.error("충전기 상태 API 호출 실패 (XML 파싱 또는 네트워크):", error);
-                setErrorStatus("충전기 상태를 불러오는데 실패했습니다. 네트워크 또는 XML 파싱 오류.");
+                console.error("충전기 상태 조회 실패:", error);
+                setErrorStatus("충전기 상태를 불러오는데 실패했습니다.");
                 setChargerStatus([]);
             } finally {
                 setLoadingStatus(false);
@@ -106,6 +64,31 @@ const CharInfoBox: React.FC<CharInfoBoxProps> = ({ charPoi}) => { // onMoreClick
         }
     }, [charPoi.statId]);
 
+    // 팝업이 열려 있는 동안 이 충전소 주변의 상태 변경분을 서버에서 받아 반영
+    useEffect(() => {
+        if (!charPoi.statId) return;
+        const { lat, lng } = charPoi.location;
+        const d = 0.001;
+        const source = new EventSource(
+            `/api/char_status/stream?south=${lat - d}&west=${lng - d}&north=${lat + d}&east=${lng + d}`
+        );
+        source.addEventListener('status', (event) => {
+            const deltas: ChargerStatusItem[] = JSON.parse((event as MessageEvent).data);
+            const mine = deltas.filter(delta => delta.statId === charPoi.statId);
+            if (mine.length === 0) return;
+            setChargerStatus(prev => {
+                const next = [...(prev ?? [])];
+                mine.forEach(delta => {
+                    const index = next.findIndex(item => item.chgerId === delta.chgerId);
+                    if (index >= 0) next[index] = delta;
+                    else next.push(delta);
+                });
+                return next;
+            });
+        });
+        return () => source.close();
+    }, [charPoi.statId, charPoi.location]);
+
     const getTotalChargers = () => chargerStatus?.length || 0;
     const getAvailableChargers = () => {
         if (!chargerStatus) return 0;